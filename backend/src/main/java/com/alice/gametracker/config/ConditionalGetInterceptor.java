@@ -0,0 +1,86 @@
+package com.alice.gametracker.config;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import com.alice.gametracker.service.CatalogVersions;
+import com.alice.gametracker.service.CatalogVersions.Type;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Answers If-None-Match for catalog reads from CatalogVersions, before the controller
+ * (and any repository) runs. Responses get an ETag and "Cache-Control: no-cache" so
+ * browsers keep them and revalidate on every visit. No Last-Modified is sent: the
+ * counters are per instance, so only the boot-scoped ETag is a safe validator.
+ */
+@Component
+public class ConditionalGetInterceptor implements HandlerInterceptor {
+
+    // Path prefix -> catalog types the responses are built from
+    private static final Map<String, Type[]> ROUTES = new LinkedHashMap<>();
+    static {
+        ROUTES.put("/api/characters", new Type[] {Type.CHARACTER, Type.ROLE});
+        ROUTES.put("/api/weapons", new Type[] {Type.WEAPON});
+        ROUTES.put("/api/echoes", new Type[] {Type.ECHO, Type.SET_ECHO});
+        ROUTES.put("/api/set-echoes", new Type[] {Type.SET_ECHO});
+        ROUTES.put("/api/roles", new Type[] {Type.ROLE});
+        ROUTES.put("/api/banners", new Type[] {Type.BANNER, Type.CHARACTER, Type.WEAPON});
+        ROUTES.put("/api/events", new Type[] {Type.EVENT});
+        ROUTES.put("/api/public/home", new Type[] {Type.BANNER, Type.EVENT, Type.CHARACTER, Type.WEAPON});
+    }
+
+    @Autowired
+    private CatalogVersions catalogVersions;
+
+    // Banner and event listings also change when start/end times pass, so their
+    // validators roll over at least this often
+    @Value("${app.http.time-sensitive-revalidate-seconds:60}")
+    private long timeSensitiveSeconds;
+
+    // Other catalogs pick up writes from other instances after this long, so their
+    // validators roll over as well
+    @Value("${app.catalog.max-age-seconds:60}")
+    private long catalogMaxAgeSeconds;
+
+    @Override
+    public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull Object handler) {
+        if (!"GET".equals(request.getMethod()) && !"HEAD".equals(request.getMethod())) {
+            return true;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        Type[] types = resolve(path);
+        if (types == null) {
+            return true;
+        }
+
+        String etag = catalogVersions.etag(types);
+        long bucketSeconds = types[0] == Type.BANNER || types[0] == Type.EVENT ? timeSensitiveSeconds : catalogMaxAgeSeconds;
+        long bucket = System.currentTimeMillis() / (bucketSeconds * 1000);
+        etag = etag.substring(0, etag.length() - 1) + "-t" + bucket + "\"";
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().getHeaderValue());
+        // Sets ETag, and a 304 status if the client's copy is current
+        return !new ServletWebRequest(request, response).checkNotModified(etag);
+    }
+
+    private Type[] resolve(String path) {
+        for (Map.Entry<String, Type[]> route : ROUTES.entrySet()) {
+            String prefix = route.getKey();
+            if (path.equals(prefix) || path.startsWith(prefix + "/")) {
+                return route.getValue();
+            }
+        }
+        return null;
+    }
+}
@@ -113,6 +113,7 @@ public class SecurityConfig {
                     
                     // Public API endpoints for future use
                     .requestMatchers("/api/public/**").permitAll()
+                    .requestMatchers("/api/gacha/cache/**").hasRole("ADMIN")
                     .requestMatchers("/api/gacha/**").permitAll()
                     
                     // Game data - public read access
@@ -122,18 +123,22 @@ public class SecurityConfig {
                     .requestMatchers("GET", "/api/characters").permitAll()
                     .requestMatchers("GET", "/api/characters/active").permitAll()
                     .requestMatchers("GET", "/api/characters/{id}").permitAll()
+                    .requestMatchers("POST", "/api/characters/batch").permitAll()
                     // Weapons - public read
                     .requestMatchers("GET", "/api/weapons").permitAll()
                     .requestMatchers("GET", "/api/weapons/active").permitAll()
                     .requestMatchers("GET", "/api/weapons/{id}").permitAll()
+                    .requestMatchers("POST", "/api/weapons/batch").permitAll()
                     // Echoes - public read
                     .requestMatchers("GET", "/api/echoes").permitAll()
                     .requestMatchers("GET", "/api/echoes/active").permitAll()
                     .requestMatchers("GET", "/api/echoes/{id}").permitAll()
+                    .requestMatchers("POST", "/api/echoes/batch").permitAll()
 
                     // Events - public read endpoints and public images
                     .requestMatchers("GET", "/api/events").permitAll()
                     .requestMatchers("GET", "/api/events/active").permitAll()
+                    .requestMatchers("GET", "/api/events/running").permitAll()
                     .requestMatchers("GET", "/api/events/{id}").permitAll()
                     .requestMatchers("/api/events/image/**").permitAll()
                     
@@ -152,6 +157,9 @@ public class SecurityConfig {
                     .requestMatchers("GET", "/api/banners/featured-ids").permitAll()
                     .requestMatchers("GET", "/api/banners/{id}").permitAll()
                     .requestMatchers("POST", "/api/banners/gacha").permitAll() // Allow public gacha for now
+                    .requestMatchers("GET", "/api/banners/{id}/simulate").permitAll()
+                    .requestMatchers("GET", "/api/banners/{id}/simulate/featured-within").permitAll()
+                    .requestMatchers("GET", "/api/banners/{id}/probability").permitAll()
                     
                     // Game data management - requires ADMIN role
                     .requestMatchers("/api/roles/**").hasRole("ADMIN")
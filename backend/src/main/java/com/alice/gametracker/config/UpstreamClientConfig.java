@@ -0,0 +1,35 @@
+package com.alice.gametracker.config;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+// Outbound HTTP client for third-party APIs (gacha record import)
+@Configuration
+public class UpstreamClientConfig {
+
+    @Value("${app.upstream.connect-timeout-ms:5000}")
+    private long connectTimeoutMs;
+
+    @Value("${app.upstream.read-timeout-ms:20000}")
+    private long readTimeoutMs;
+
+    // The JDK client keeps connections alive and reuses them across requests
+    @Bean(name = "upstreamRestTemplate")
+    public RestTemplate upstreamRestTemplate() {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(readTimeoutMs));
+        return new RestTemplate(requestFactory);
+    }
+}
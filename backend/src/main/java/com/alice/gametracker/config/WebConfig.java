@@ -1,16 +1,33 @@
 package com.alice.gametracker.config;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.lang.NonNull;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
+    @Autowired
+    private ConditionalGetInterceptor conditionalGetInterceptor;
+
     @Override
     public void addResourceHandlers(@NonNull ResourceHandlerRegistry registry) {
         registry.addResourceHandler("/uploads/**")
                 .addResourceLocations("file:uploads/");
     }
-}
\ No newline at end of file
+
+    @Override
+    public void addInterceptors(@NonNull InterceptorRegistry registry) {
+        // Conditional GET for catalog reads; files, pre-encoded card listings (own ETag)
+        // and random simulations are excluded
+        registry.addInterceptor(conditionalGetInterceptor)
+                .addPathPatterns("/api/characters/**", "/api/weapons/**", "/api/echoes/**", "/api/set-echoes/**",
+                        "/api/roles/**", "/api/banners/**", "/api/events/**")
+                .excludePathPatterns("/api/*/image/**", "/api/*/icon/**", "/api/*/icons",
+                        "/api/characters/cards", "/api/weapons/cards",
+                        "/api/banners/*/simulate", "/api/banners/*/simulate/**");
+    }
+}
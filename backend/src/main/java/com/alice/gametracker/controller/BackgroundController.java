@@ -3,8 +3,6 @@ package com.alice.gametracker.controller;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -32,17 +30,7 @@ public class BackgroundController {
     @GetMapping
     public ResponseEntity<List<Map<String, String>>> getBackgroundFiles() {
         try {
-            List<String> filenames = fileStorageService.listBackgroundFiles();
-            List<Map<String, String>> result = new ArrayList<>();
-            
-            for (String filename : filenames) {
-                Map<String, String> item = new HashMap<>();
-                item.put("filename", filename);
-                item.put("url", fileStorageService.getBackgroundImageUrl(filename));
-                result.add(item);
-            }
-            
-            return ResponseEntity.ok(result);
+            return ResponseEntity.ok(fileStorageService.listBackgrounds());
         } catch (Exception ex) {
             return ResponseEntity.internalServerError().build();
         }
@@ -1,6 +1,7 @@
 package com.alice.gametracker.controller;
 
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -13,13 +14,19 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.alice.gametracker.dto.ApiResponse;
 import com.alice.gametracker.dto.BannerResponse;
 import com.alice.gametracker.dto.CreateBannerRequest;
+import com.alice.gametracker.dto.FeaturedProbabilityResponse;
 import com.alice.gametracker.dto.GachaRequest;
 import com.alice.gametracker.dto.GachaResultResponse;
+import com.alice.gametracker.dto.GachaSimulationResponse;
 import com.alice.gametracker.service.BannerService;
+import com.alice.gametracker.utils.Paging;
+import com.alice.gametracker.utils.SparseFields;
 
 import jakarta.validation.Valid;
 
@@ -31,11 +38,21 @@ public class BannerController {
     @Autowired
     private BannerService bannerService;
 
-    // Get all active banners
+    @Autowired
+    private SparseFields sparseFields;
+
+    // Get all active banners, latest start first. after/limit return a page in the same order
+    // (after = id of the previous page's last item), fields trims each item
     @GetMapping
-    public ResponseEntity<List<BannerResponse>> getAllActiveBanners() {
+    public ResponseEntity<?> getAllActiveBanners(
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String fields) {
+        if (Paging.requested(after, limit)) {
+            return ResponseEntity.ok(sparseFields.select(bannerService.getActiveBannersPage(after, Paging.limit(limit)), fields));
+        }
         List<BannerResponse> banners = bannerService.getAllActiveBanners();
-        return ResponseEntity.ok(banners);
+        return ResponseEntity.ok(sparseFields.select(banners, fields));
     }
 
     // Get currently running banners (active right now)
@@ -52,11 +69,17 @@ public class BannerController {
         return ResponseEntity.ok(banners);
     }
 
-    // Get past banners (history)
+    // Get past banners (history), most recently ended first, with the same paging and field selection as above
     @GetMapping("/history")
-    public ResponseEntity<List<BannerResponse>> getPastBanners() {
+    public ResponseEntity<?> getPastBanners(
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String fields) {
+        if (Paging.requested(after, limit)) {
+            return ResponseEntity.ok(sparseFields.select(bannerService.getPastBannersPage(after, Paging.limit(limit)), fields));
+        }
         List<BannerResponse> banners = bannerService.getPastBanners();
-        return ResponseEntity.ok(banners);
+        return ResponseEntity.ok(sparseFields.select(banners, fields));
     }
 
     // Get banner by ID
@@ -103,11 +126,11 @@ public class BannerController {
         }
     }
 
-    // Update all banner statuses
+    // Update all banner statuses, reporting how many changed
     @PostMapping("/update-statuses")
-    public ResponseEntity<String> updateAllBannerStatuses() {
-        bannerService.updateAllBannerStatuses();
-        return ResponseEntity.ok("All banner statuses updated");
+    public ResponseEntity<ApiResponse<Map<String, Integer>>> updateAllBannerStatuses() {
+        int updated = bannerService.updateAllBannerStatuses();
+        return ResponseEntity.ok(ApiResponse.success("Updated " + updated + " banner statuses", Map.of("updated", updated)));
     }
 
     // Get featured 5-star IDs from active banners
@@ -130,4 +153,47 @@ public class BannerController {
             return ResponseEntity.badRequest().body(e.getMessage());
         }
     }
+
+    // Simulate many pulls on a banner and return aggregated statistics only
+    @GetMapping("/{id}/simulate")
+    public ResponseEntity<?> simulateGacha(@PathVariable Long id,
+                                           @RequestParam(defaultValue = "10000") int pulls,
+                                           @RequestParam(required = false) Long seed) {
+        try {
+            GachaSimulationResponse result = bannerService.simulateGacha(id, pulls, seed);
+            return ResponseEntity.ok(result);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    // Monte Carlo estimate of getting the featured 5-star within X pulls from the given pity state
+    @GetMapping("/{id}/simulate/featured-within")
+    public ResponseEntity<?> simulateFeaturedWithin(@PathVariable Long id,
+                                                    @RequestParam int pulls,
+                                                    @RequestParam(defaultValue = "0") int pity,
+                                                    @RequestParam(defaultValue = "false") boolean guaranteed,
+                                                    @RequestParam(defaultValue = "100000") int trials,
+                                                    @RequestParam(required = false) Long seed) {
+        try {
+            FeaturedProbabilityResponse result = bannerService.simulateFeaturedWithin(id, pulls, pity, guaranteed, trials, seed);
+            return ResponseEntity.ok(result);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    // Exact chance of getting the featured 5-star within X pulls (precomputed pity tables)
+    @GetMapping("/{id}/probability")
+    public ResponseEntity<?> getFeaturedProbability(@PathVariable Long id,
+                                                    @RequestParam int pulls,
+                                                    @RequestParam(defaultValue = "0") int pity,
+                                                    @RequestParam(defaultValue = "false") boolean guaranteed) {
+        try {
+            FeaturedProbabilityResponse result = bannerService.getFeaturedProbability(id, pulls, pity, guaranteed);
+            return ResponseEntity.ok(result);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
 }
@@ -27,14 +27,19 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
-import com.alice.gametracker.dto.CharacterCardResponse;
+import com.alice.gametracker.dto.ApiResponse;
+import com.alice.gametracker.dto.BatchIdsRequest;
 import com.alice.gametracker.dto.CharacterResponse;
 import com.alice.gametracker.dto.CreateCharacterRequest;
 import com.alice.gametracker.dto.DeactivateCharacterRequest;
 import com.alice.gametracker.dto.UpdateCharacterRequest;
 import com.alice.gametracker.service.CharacterService;
+import com.alice.gametracker.utils.EncodedResponseCache;
+import com.alice.gametracker.utils.Paging;
+import com.alice.gametracker.utils.SparseFields;
 
 import jakarta.annotation.PostConstruct;
+import jakarta.servlet.http.HttpServletRequest;
 
 @RestController
 @RequestMapping("/api/characters")
@@ -43,6 +48,12 @@ public class CharacterController {
     @Autowired
     private CharacterService characterService;
 
+    @Autowired
+    private EncodedResponseCache encodedResponseCache;
+
+    @Autowired
+    private SparseFields sparseFields;
+
     @Value("${app.character.storage.location}")
     private String characterStorageLocation;
 
@@ -97,26 +108,42 @@ public class CharacterController {
                        .orElse(ResponseEntity.notFound().build());
     }
 
-    // Get all characters
+    // Resolve several characters by id in one request instead of one GET per id
+    @PostMapping(path = "/batch", consumes = "application/json")
+    public ResponseEntity<?> getCharactersByIds(@RequestBody BatchIdsRequest request) {
+        List<Long> ids = request.getIds();
+        if (ids != null && ids.size() > Paging.MAX_LIMIT) {
+            return ResponseEntity.badRequest().body(ApiResponse.error("At most " + Paging.MAX_LIMIT + " ids per batch"));
+        }
+        return ResponseEntity.ok(characterService.findCharactersByIds(ids));
+    }
+
+    // Get all characters. after/limit return a keyset page by id, fields trims each item
     @GetMapping
-    public ResponseEntity<List<CharacterResponse>> getAllCharacters() {
+    public ResponseEntity<?> getAllCharacters(
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String fields) {
         List<CharacterResponse> characters = characterService.findAllCharacters();
-        return ResponseEntity.ok(characters);
+        return ResponseEntity.ok(sparseFields.render(characters, CharacterResponse::getId, after, limit, fields));
     }
 
-    // Get active characters only
+    // Get active characters only (same paging and field selection as above)
     @GetMapping("/active")
-    public ResponseEntity<List<CharacterResponse>> getActiveCharacters() {
+    public ResponseEntity<?> getActiveCharacters(
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String fields) {
         List<CharacterResponse> characters = characterService.findActiveCharacters();
-        return ResponseEntity.ok(characters);
+        return ResponseEntity.ok(sparseFields.render(characters, CharacterResponse::getId, after, limit, fields));
     }
 
     // Get simplified character cards for public listing page (no authentication required)
     // Returns only essential fields: id, name, element, weaponType, imageUrl, rarity
+    // Served pre-encoded (optionally gzipped) with a strong ETag; 304 when If-None-Match matches
     @GetMapping("/cards")
-    public ResponseEntity<List<CharacterCardResponse>> getCharacterCards() {
-        List<CharacterCardResponse> cards = characterService.findCharacterCards();
-        return ResponseEntity.ok(cards);
+    public ResponseEntity<byte[]> getCharacterCards(HttpServletRequest request) {
+        return encodedResponseCache.respond("character-cards", characterService.getCardsVersion(), characterService::findCharacterCards, request);
     }
 
     // Upload character image
@@ -30,6 +30,8 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.alice.gametracker.dto.ApiResponse;
+import com.alice.gametracker.dto.BatchIdsRequest;
 import com.alice.gametracker.dto.CreateEchoRequest;
 import com.alice.gametracker.dto.DeactivateWeaponRequest;
 import com.alice.gametracker.dto.EchoResponse;
@@ -38,6 +40,8 @@ import com.alice.gametracker.model.Echo;
 import com.alice.gametracker.model.SetEcho;
 import com.alice.gametracker.service.EchoService;
 import com.alice.gametracker.service.FileStorageService;
+import com.alice.gametracker.utils.Paging;
+import com.alice.gametracker.utils.SparseFields;
 
 import jakarta.annotation.PostConstruct;
 
@@ -51,6 +55,9 @@ public class EchoController {
     @Autowired
     private FileStorageService fileStorageService;
 
+    @Autowired
+    private SparseFields sparseFields;
+
     private static final Logger log = LoggerFactory.getLogger(EchoController.class);
 
     @Value("${app.echo.storage.location:${app.character.storage.location}}")
@@ -98,14 +105,31 @@ public class EchoController {
         return ResponseEntity.noContent().build();
     }
 
+    // Resolve several echoes by id in one request instead of one GET per id
+    @PostMapping(path = "/batch", consumes = "application/json")
+    public ResponseEntity<?> getEchoesByIds(@RequestBody BatchIdsRequest request) {
+        List<Long> ids = request.getIds();
+        if (ids != null && ids.size() > Paging.MAX_LIMIT) {
+            return ResponseEntity.badRequest().body(ApiResponse.error("At most " + Paging.MAX_LIMIT + " ids per batch"));
+        }
+        return ResponseEntity.ok(echoService.findByIds(ids));
+    }
+
+    // after/limit return a keyset page by id, fields trims each item
     @GetMapping
-    public ResponseEntity<List<EchoResponse>> getAll() {
-        return ResponseEntity.ok(echoService.findAllResponses());
+    public ResponseEntity<?> getAll(
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String fields) {
+        return ResponseEntity.ok(sparseFields.render(echoService.findAllResponses(), EchoResponse::getId, after, limit, fields));
     }
 
     @GetMapping("/active")
-    public ResponseEntity<List<EchoResponse>> getActive() {
-        return ResponseEntity.ok(echoService.findActiveResponses());
+    public ResponseEntity<?> getActive(
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String fields) {
+        return ResponseEntity.ok(sparseFields.render(echoService.findActiveResponses(), EchoResponse::getId, after, limit, fields));
     }
 
     @GetMapping("/{id}")
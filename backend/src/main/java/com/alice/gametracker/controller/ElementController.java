@@ -3,7 +3,6 @@ package com.alice.gametracker.controller;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -31,17 +30,7 @@ public class ElementController {
     @GetMapping("/icons")
     public ResponseEntity<List<Map<String, String>>> listElementIcons() {
         try {
-            List<String> filenames = fileStorageService.listElementFiles();
-            List<Map<String, String>> result = new java.util.ArrayList<>();
-            
-            for (String filename : filenames) {
-                Map<String, String> item = new HashMap<>();
-                item.put("filename", filename);
-                item.put("url", fileStorageService.getElementIconUrl(filename));
-                result.add(item);
-            }
-            
-            return ResponseEntity.ok(result);
+            return ResponseEntity.ok(fileStorageService.listElementIcons());
         } catch (Exception ex) {
             return ResponseEntity.internalServerError().build();
         }
@@ -31,6 +31,8 @@ import com.alice.gametracker.dto.CreateEventRequest;
 import com.alice.gametracker.dto.EventResponse;
 import com.alice.gametracker.dto.UpdateEventRequest;
 import com.alice.gametracker.service.EventService;
+import com.alice.gametracker.utils.Paging;
+import com.alice.gametracker.utils.SparseFields;
 
 import jakarta.annotation.PostConstruct;
 
@@ -41,6 +43,9 @@ public class EventController {
     @Autowired
     private EventService eventService;
 
+    @Autowired
+    private SparseFields sparseFields;
+
     @Value("${app.event.storage.location:uploads/event/}")
     private String eventStorageLocation;
 
@@ -54,18 +59,38 @@ public class EventController {
         this.eventStoragePath = Paths.get(eventStorageLocation).toAbsolutePath().normalize();
     }
 
-    // Public: list all events
+    // Public: list all events. after/limit return a keyset page (newest first), fields trims each item
     @GetMapping
-    public ResponseEntity<List<EventResponse>> getAllEvents() {
+    public ResponseEntity<?> getAllEvents(
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String fields) {
+        if (Paging.requested(after, limit)) {
+            return ResponseEntity.ok(sparseFields.select(eventService.findPage(after, Paging.limit(limit)), fields));
+        }
         List<EventResponse> resp = eventService.findAllResponses();
-        return ResponseEntity.ok(resp);
+        return ResponseEntity.ok(sparseFields.select(resp, fields));
     }
 
-    // Public: active events
+    // Public: active events, ending soonest first. after/limit return a page in the same order
+    // (after = id of the previous page's last item), fields trims each item
     @GetMapping("/active")
-    public ResponseEntity<List<EventResponse>> getActiveEvents() {
+    public ResponseEntity<?> getActiveEvents(
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String fields) {
+        if (Paging.requested(after, limit)) {
+            return ResponseEntity.ok(sparseFields.select(eventService.findActivePage(after, Paging.limit(limit)), fields));
+        }
         List<EventResponse> resp = eventService.findActiveResponses();
-        return ResponseEntity.ok(resp);
+        return ResponseEntity.ok(sparseFields.select(resp, fields));
+    }
+
+    // Public: events running right now (started and not ended), unlike /active which
+    // also lists announced events
+    @GetMapping("/running")
+    public ResponseEntity<?> getRunningEvents(@RequestParam(required = false) String fields) {
+        return ResponseEntity.ok(sparseFields.select(eventService.findRunningResponses(), fields));
     }
 
     // Public: get by id
@@ -1,47 +1,39 @@
 package com.alice.gametracker.controller;
 
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
-import org.springframework.web.client.RestTemplate;
 
 import com.alice.gametracker.dto.ApiResponse;
-import com.alice.gametracker.service.CharacterService;
-import com.alice.gametracker.service.WeaponService;
-import com.fasterxml.jackson.databind.JsonNode;
+import com.alice.gametracker.service.GachaHistoryService;
+import com.alice.gametracker.service.GachaResultCache;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
+import jakarta.servlet.http.HttpServletResponse;
+
 @RestController
 @RequestMapping("/api/gacha")
 public class GachaController {
 
-    private final RestTemplate restTemplate = new RestTemplate();
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     @Autowired
-    private WeaponService weaponService;
+    private GachaHistoryService gachaHistoryService;
 
+    // Latest fetch result per player for frontend polling
     @Autowired
-    private CharacterService characterService;
-
-    // Store latest fetch result temporarily (in-memory cache)
-    private volatile ObjectNode latestGachaData = null;
-    private volatile long lastFetchTime = 0;
+    private GachaResultCache gachaResultCache;
 
     @PostMapping("/fetch")
     public ResponseEntity<?> fetchGachaHistory(@RequestBody Map<String, String> request) {
@@ -55,149 +47,11 @@ public class GachaController {
             String queryString = url.split("\\?")[1].split("#")[0];
             Map<String, String> params = parseQueryString(queryString);
 
-            // Set headers (from successful Postman test)
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            headers.set("User-Agent", "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/140.0.0.0 Safari/537.36");
-            headers.set("Referer", "https://aki-gm-resources-oversea.aki-game.net/");
-            headers.set("Origin", "https://aki-gm-resources-oversea.aki-game.net");
-            headers.set("Accept", "application/json, text/plain, */*");
-            headers.set("Accept-Language", "en");
-            headers.set("sec-ch-ua", "\"Chromium\";v=\"140\", \"Not=A?Brand\";v=\"24\", \"Google Chrome\";v=\"140\"");
-            headers.set("sec-ch-ua-mobile", "?0");
-            headers.set("sec-ch-ua-platform", "\"Windows\"");
-            headers.set("sec-fetch-dest", "empty");
-            headers.set("sec-fetch-mode", "cors");
-            headers.set("sec-fetch-site", "cross-site");
-
-            String apiUrl = "https://gmserver-api.aki-game2.net/gacha/record/query";
-            
-            // Build image cache: load all weapons and characters once (OPTIMIZATION 1)
-            Map<String, String> imageCache = new ConcurrentHashMap<>();
-            weaponService.findAllResponses().forEach(w -> {
-                if (w.getName() != null && w.getImageUrl() != null) {
-                    // Trim and lowercase for consistent matching
-                    imageCache.put(w.getName().trim().toLowerCase(), w.getImageUrl());
-                }
-            });
-            characterService.findAllCharacters().forEach(c -> {
-                if (c.getName() != null && c.getImageUrl() != null) {
-                    // Trim and lowercase for consistent matching
-                    imageCache.put(c.getName().trim().toLowerCase(), c.getImageUrl());
-                }
-            });
-            
-            // Collect gacha items grouped by cardPoolType (thread-safe)
-            Map<String, ArrayNode> bannerDataMap = new ConcurrentHashMap<>();
-            
-            // OPTIMIZATION 2: Parallel API calls using CompletableFuture
-            java.util.List<CompletableFuture<Void>> futures = new java.util.ArrayList<>();
-            
-            // Loop through cardPoolType 1-9
-            for (int cardPoolType = 1; cardPoolType <= 9; cardPoolType++) {
-                final int poolType = cardPoolType; // For lambda
-                
-                CompletableFuture<Void> future = CompletableFuture.runAsync(() -> {
-                    try {
-                        // Build request body for each cardPoolType
-                        Map<String, Object> body = new HashMap<>();
-                        body.put("playerId", params.get("player_id"));
-                        body.put("cardPoolId", params.get("gacha_id"));
-                        body.put("cardPoolType", poolType);
-                        body.put("languageCode", params.get("lang"));
-                        body.put("recordId", params.get("record_id"));
-                        body.put("serverId", params.get("svr_id"));
-
-                        HttpEntity<Map<String, Object>> entity = new HttpEntity<>(body, headers);
-
-                        // Call API for this cardPoolType
-                        ResponseEntity<String> response = restTemplate.exchange(apiUrl, HttpMethod.POST, entity, String.class);
-                        JsonNode jsonData = objectMapper.readTree(response.getBody());
-                        
-                        // Get the data array from response
-                        if (jsonData.has("data") && jsonData.get("data").isArray()) {
-                            ArrayNode dataArray = (ArrayNode) jsonData.get("data");
-                            
-                            // Step 1: Calculate pity counters on FULL data (including 3-star items)
-                            // Loop BACKWARDS (oldest to newest) to calculate pity correctly
-                            int[] pityCounters = new int[dataArray.size()];
-                            int fiveStarPity = 0;
-                            int fourStarPity = 0;
-                            
-                            // Iterate from end to start (oldest to newest)
-                            for (int i = dataArray.size() - 1; i >= 0; i--) {
-                                ObjectNode item = (ObjectNode) dataArray.get(i);
-                                int qualityLevel = item.has("qualityLevel") ? item.get("qualityLevel").asInt() : 0;
-                                
-                                // Increment pity counters for every item (including 3-star)
-                                fiveStarPity++;
-                                fourStarPity++;
-                                
-                                // Save pity count for this item
-                                if (qualityLevel == 5) {
-                                    pityCounters[i] = fiveStarPity;
-                                    fiveStarPity = 0; // Reset 5-star pity
-                                } else if (qualityLevel == 4) {
-                                    pityCounters[i] = fourStarPity;
-                                    fourStarPity = 0; // Reset 4-star pity
-                                } else {
-                                    pityCounters[i] = 0; // 3-star items don't have pity displayed
-                                }
-                            }
-                            
-                            // Step 2: Build enriched items array (only 4-star and 5-star)
-                            ArrayNode enrichedItems = objectMapper.createArrayNode();
-                            
-                            // Now loop forward (newest to oldest) to build final result
-                            for (int i = 0; i < dataArray.size(); i++) {
-                                ObjectNode item = (ObjectNode) dataArray.get(i);
-                                int qualityLevel = item.has("qualityLevel") ? item.get("qualityLevel").asInt() : 0;
-                                
-                                // FILTER: Only include 4-star and 5-star items in final result
-                                if (qualityLevel == 4 || qualityLevel == 5) {
-                                    String name = item.has("name") ? item.get("name").asText() : null;
-                                    
-                                    // Add pityCount to item (already calculated in previous loop)
-                                    item.put("pityCount", pityCounters[i]);
-                                    
-                                    if (name != null) {
-                                        // Lookup imageUrl from cache (O(1) instead of O(n) stream filter)
-                                        // Trim and lowercase for consistent matching
-                                        String imageUrl = imageCache.get(name.trim().toLowerCase());
-                                        item.put("imageUrl", imageUrl);
-                                    }
-                                    
-                                    enrichedItems.add(item);
-                                }
-                            }
-                            
-                            // Store items for this cardPoolType (thread-safe)
-                            bannerDataMap.put(String.valueOf(poolType), enrichedItems);
-                        }
-                    } catch (Exception e) {
-                        // If a specific cardPoolType fails, continue with others
-                        System.err.println("Failed to fetch cardPoolType " + poolType + ": " + e.getMessage());
-                    }
-                });
-                
-                futures.add(future);
-            }
-            
-            // Wait for all API calls to complete
-            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
-            
-            // Build response with grouped data
-            ObjectNode bannerData = objectMapper.createObjectNode();
-            bannerDataMap.forEach((key, value) -> bannerData.set(key, value));
-            
-            ObjectNode responseData = objectMapper.createObjectNode();
-            responseData.put("code", 0);
-            responseData.put("message", "success");
-            responseData.set("data", bannerData);
+            // Import only the new tail of each pool and return the stored history
+            ObjectNode responseData = gachaHistoryService.syncHistory(params);
             
             // Cache the result for frontend polling
-            this.latestGachaData = responseData;
-            this.lastFetchTime = System.currentTimeMillis();
+            gachaResultCache.put(params.get("player_id"), params.get("record_id"), responseData);
             
             return ResponseEntity.ok(ApiResponse.success("Gacha history fetched from all banners", responseData));
 
@@ -206,6 +60,28 @@ public class GachaController {
         }
     }
 
+    // Streaming variant of /fetch: enriched items are written to the response while the upstream
+    // responses are still being read, so memory does not grow with history size.
+    // Streamed results are not stored for /latest.
+    @PostMapping("/fetch/stream")
+    public void streamGachaHistory(@RequestBody Map<String, String> request, HttpServletResponse response) throws IOException {
+        String url = request.get("url");
+        if (url == null || url.isEmpty() || !url.contains("?")) {
+            response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            objectMapper.writeValue(response.getOutputStream(), ApiResponse.error("URL is required"));
+            return;
+        }
+
+        String queryString = url.split("\\?")[1].split("#")[0];
+        Map<String, String> params = parseQueryString(queryString);
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        gachaHistoryService.streamHistory(params, response.getOutputStream());
+    }
+
     @PostMapping("/paste")
     public ResponseEntity<?> pasteGachaHistory(@RequestBody Map<String, String> request) {
         String json = request.get("json");
@@ -223,20 +99,35 @@ public class GachaController {
         }
     }
 
+    // The player id is public, so the record_id used for the import is required as well
     @GetMapping("/latest")
-    public ResponseEntity<?> getLatestGachaData() {
-        if (latestGachaData == null) {
+    public ResponseEntity<?> getLatestGachaData(@RequestParam(required = false) String playerId,
+                                                @RequestParam(required = false) String recordId) {
+        if (playerId == null || playerId.isEmpty()) {
+            return ResponseEntity.badRequest().body(ApiResponse.error("playerId is required"));
+        }
+        if (recordId == null || recordId.isEmpty()) {
+            return ResponseEntity.badRequest().body(ApiResponse.error("recordId is required"));
+        }
+
+        GachaResultCache.Entry cached = gachaResultCache.get(playerId, recordId);
+        if (cached == null) {
             return ResponseEntity.ok(ApiResponse.success("No gacha data available yet", null));
         }
         
         // Return cached data with timestamp
         ObjectNode response = objectMapper.createObjectNode();
-        response.set("data", latestGachaData);
-        response.put("timestamp", lastFetchTime);
+        response.set("data", cached.getData());
+        response.put("timestamp", cached.getFetchTime());
         
         return ResponseEntity.ok(ApiResponse.success("Latest gacha data", response));
     }
 
+    @GetMapping("/cache/stats")
+    public ResponseEntity<?> getCacheStats() {
+        return ResponseEntity.ok(ApiResponse.success("Gacha cache stats", gachaResultCache.getStats()));
+    }
+
     private Map<String, String> parseQueryString(String query) {
         Map<String, String> params = new HashMap<>();
         if (query != null && !query.isEmpty()) {
@@ -0,0 +1,25 @@
+package com.alice.gametracker.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.alice.gametracker.dto.HomeBundleResponse;
+import com.alice.gametracker.service.HomeBundleService;
+
+@RestController
+@RequestMapping("/api/public/home")
+public class HomeController {
+
+    @Autowired
+    private HomeBundleService homeBundleService;
+
+    // Landing page data in one request: current/upcoming banners, featured ids, active events,
+    // character and weapon cards, element icons and backgrounds
+    @GetMapping
+    public ResponseEntity<HomeBundleResponse> getHomeBundle() {
+        return ResponseEntity.ok(homeBundleService.getBundle());
+    }
+}
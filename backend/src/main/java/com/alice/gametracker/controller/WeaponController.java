@@ -27,14 +27,19 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.alice.gametracker.dto.ApiResponse;
+import com.alice.gametracker.dto.BatchIdsRequest;
 import com.alice.gametracker.dto.CreateWeaponRequest;
 import com.alice.gametracker.dto.DeactivateWeaponRequest;
 import com.alice.gametracker.dto.UpdateWeaponRequest;
-import com.alice.gametracker.dto.WeaponCardResponse;
 import com.alice.gametracker.dto.WeaponResponse;
 import com.alice.gametracker.service.WeaponService;
+import com.alice.gametracker.utils.EncodedResponseCache;
+import com.alice.gametracker.utils.Paging;
+import com.alice.gametracker.utils.SparseFields;
 
 import jakarta.annotation.PostConstruct;
+import jakarta.servlet.http.HttpServletRequest;
 
 @RestController
 @RequestMapping("/api/weapons")
@@ -43,6 +48,12 @@ public class WeaponController {
     @Autowired
     private WeaponService weaponService;
 
+    @Autowired
+    private EncodedResponseCache encodedResponseCache;
+
+    @Autowired
+    private SparseFields sparseFields;
+
     @Value("${app.weapon.storage.location:${app.role.storage.location}}")
     private String weaponStorageLocation;
 
@@ -91,26 +102,42 @@ public class WeaponController {
         return opt.map(ResponseEntity::ok).orElse(ResponseEntity.notFound().build());
     }
 
-    // Get all weapons
+    // Resolve several weapons by id in one request instead of one GET per id
+    @PostMapping(path = "/batch", consumes = "application/json")
+    public ResponseEntity<?> getWeaponsByIds(@RequestBody BatchIdsRequest request) {
+        List<Long> ids = request.getIds();
+        if (ids != null && ids.size() > Paging.MAX_LIMIT) {
+            return ResponseEntity.badRequest().body(ApiResponse.error("At most " + Paging.MAX_LIMIT + " ids per batch"));
+        }
+        return ResponseEntity.ok(weaponService.findByIds(ids));
+    }
+
+    // Get all weapons. after/limit return a keyset page by id, fields trims each item
     @GetMapping
-    public ResponseEntity<List<WeaponResponse>> getAllWeapons() {
+    public ResponseEntity<?> getAllWeapons(
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String fields) {
         List<WeaponResponse> resp = weaponService.findAllResponses();
-        return ResponseEntity.ok(resp);
+        return ResponseEntity.ok(sparseFields.render(resp, WeaponResponse::getId, after, limit, fields));
     }
 
-    // Get active weapons only
+    // Get active weapons only (same paging and field selection as above)
     @GetMapping("/active")
-    public ResponseEntity<List<WeaponResponse>> getActiveWeapons() {
+    public ResponseEntity<?> getActiveWeapons(
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String fields) {
         List<WeaponResponse> resp = weaponService.findActiveWeapons();
-        return ResponseEntity.ok(resp);
+        return ResponseEntity.ok(sparseFields.render(resp, WeaponResponse::getId, after, limit, fields));
     }
 
     // Get simplified weapon cards for public listing page (no authentication required)
     // Returns only essential fields: id, name, type, imageUrl, rarity
+    // Served pre-encoded (optionally gzipped) with a strong ETag; 304 when If-None-Match matches
     @GetMapping("/cards")
-    public ResponseEntity<List<WeaponCardResponse>> getWeaponCards() {
-        List<WeaponCardResponse> cards = weaponService.findWeaponCards();
-        return ResponseEntity.ok(cards);
+    public ResponseEntity<byte[]> getWeaponCards(HttpServletRequest request) {
+        return encodedResponseCache.respond("weapon-cards", weaponService.getCardsVersion(), weaponService::findWeaponCards, request);
     }
 
     // Upload weapon image
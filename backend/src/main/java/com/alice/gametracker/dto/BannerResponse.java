@@ -2,6 +2,9 @@ package com.alice.gametracker.dto;
 
 import java.time.LocalDateTime;
 
+import com.alice.gametracker.model.BannerStatus;
+import com.alice.gametracker.model.BannerType;
+
 public class BannerResponse {
     private Long id;
     private String name;
@@ -44,6 +47,91 @@ public class BannerResponse {
     // Constructor
     public BannerResponse() {}
 
+    // Copy, so cached rows can be handed out with a per-request status
+    public BannerResponse(BannerResponse source) {
+        this.id = source.id;
+        this.name = source.name;
+        this.startDate = source.startDate;
+        this.endDate = source.endDate;
+        this.bannerType = source.bannerType;
+        this.featured5StarCharacterId = source.featured5StarCharacterId;
+        this.featured5StarCharacterName = source.featured5StarCharacterName;
+        this.featured5StarCharacterImageUrl = source.featured5StarCharacterImageUrl;
+        this.featured4StarCharacter1Id = source.featured4StarCharacter1Id;
+        this.featured4StarCharacter1Name = source.featured4StarCharacter1Name;
+        this.featured4StarCharacter1ImageUrl = source.featured4StarCharacter1ImageUrl;
+        this.featured4StarCharacter2Id = source.featured4StarCharacter2Id;
+        this.featured4StarCharacter2Name = source.featured4StarCharacter2Name;
+        this.featured4StarCharacter2ImageUrl = source.featured4StarCharacter2ImageUrl;
+        this.featured4StarCharacter3Id = source.featured4StarCharacter3Id;
+        this.featured4StarCharacter3Name = source.featured4StarCharacter3Name;
+        this.featured4StarCharacter3ImageUrl = source.featured4StarCharacter3ImageUrl;
+        this.featured5StarWeaponId = source.featured5StarWeaponId;
+        this.featured5StarWeaponName = source.featured5StarWeaponName;
+        this.featured5StarWeaponImageUrl = source.featured5StarWeaponImageUrl;
+        this.featured4StarWeapon1Id = source.featured4StarWeapon1Id;
+        this.featured4StarWeapon1Name = source.featured4StarWeapon1Name;
+        this.featured4StarWeapon1ImageUrl = source.featured4StarWeapon1ImageUrl;
+        this.featured4StarWeapon2Id = source.featured4StarWeapon2Id;
+        this.featured4StarWeapon2Name = source.featured4StarWeapon2Name;
+        this.featured4StarWeapon2ImageUrl = source.featured4StarWeapon2ImageUrl;
+        this.featured4StarWeapon3Id = source.featured4StarWeapon3Id;
+        this.featured4StarWeapon3Name = source.featured4StarWeapon3Name;
+        this.featured4StarWeapon3ImageUrl = source.featured4StarWeapon3ImageUrl;
+        this.status = source.status;
+        this.isActive = source.isActive;
+        this.createdDate = source.createdDate;
+    }
+
+    // JPQL projection: banner columns plus id/name/imageUrl of each featured unit.
+    // Only the units matching the banner type are kept, as in BannerService.convertToResponse.
+    public BannerResponse(Long id, String name, LocalDateTime startDate, LocalDateTime endDate,
+                          BannerType bannerType, BannerStatus status, boolean isActive, LocalDateTime createdDate,
+                          Long c5Id, String c5Name, String c5ImageUrl,
+                          Long c41Id, String c41Name, String c41ImageUrl,
+                          Long c42Id, String c42Name, String c42ImageUrl,
+                          Long c43Id, String c43Name, String c43ImageUrl,
+                          Long w5Id, String w5Name, String w5ImageUrl,
+                          Long w41Id, String w41Name, String w41ImageUrl,
+                          Long w42Id, String w42Name, String w42ImageUrl,
+                          Long w43Id, String w43Name, String w43ImageUrl) {
+        this.id = id;
+        this.name = name;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.bannerType = bannerType.name();
+        this.status = status.name();
+        this.isActive = isActive;
+        this.createdDate = createdDate;
+        if (bannerType == BannerType.CHARACTER) {
+            this.featured5StarCharacterId = c5Id;
+            this.featured5StarCharacterName = c5Name;
+            this.featured5StarCharacterImageUrl = c5ImageUrl;
+            this.featured4StarCharacter1Id = c41Id;
+            this.featured4StarCharacter1Name = c41Name;
+            this.featured4StarCharacter1ImageUrl = c41ImageUrl;
+            this.featured4StarCharacter2Id = c42Id;
+            this.featured4StarCharacter2Name = c42Name;
+            this.featured4StarCharacter2ImageUrl = c42ImageUrl;
+            this.featured4StarCharacter3Id = c43Id;
+            this.featured4StarCharacter3Name = c43Name;
+            this.featured4StarCharacter3ImageUrl = c43ImageUrl;
+        } else if (bannerType == BannerType.WEAPON) {
+            this.featured5StarWeaponId = w5Id;
+            this.featured5StarWeaponName = w5Name;
+            this.featured5StarWeaponImageUrl = w5ImageUrl;
+            this.featured4StarWeapon1Id = w41Id;
+            this.featured4StarWeapon1Name = w41Name;
+            this.featured4StarWeapon1ImageUrl = w41ImageUrl;
+            this.featured4StarWeapon2Id = w42Id;
+            this.featured4StarWeapon2Name = w42Name;
+            this.featured4StarWeapon2ImageUrl = w42ImageUrl;
+            this.featured4StarWeapon3Id = w43Id;
+            this.featured4StarWeapon3Name = w43Name;
+            this.featured4StarWeapon3ImageUrl = w43ImageUrl;
+        }
+    }
+
     // Getters and Setters
     public Long getId() {
         return id;
@@ -0,0 +1,14 @@
+package com.alice.gametracker.dto;
+
+import java.util.List;
+
+public class BatchIdsRequest {
+    private List<Long> ids;
+
+    public BatchIdsRequest() {}
+
+    public BatchIdsRequest(List<Long> ids) { this.ids = ids; }
+
+    public List<Long> getIds() { return ids; }
+    public void setIds(List<Long> ids) { this.ids = ids; }
+}
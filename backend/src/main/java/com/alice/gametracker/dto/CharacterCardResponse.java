@@ -1,5 +1,8 @@
 package com.alice.gametracker.dto;
 
+import com.alice.gametracker.model.Element;
+import com.alice.gametracker.model.WeaponType;
+
 // Simplified DTO for displaying character cards on public character listing page
 public class CharacterCardResponse {
 
@@ -23,6 +26,12 @@ public class CharacterCardResponse {
         this.rarity = rarity;
     }
 
+    // Used by the card projection query in CharacterRepository
+    public CharacterCardResponse(Long id, String name, Element element, WeaponType weaponType,
+                                String imageUrl, Integer rarity) {
+        this(id, name, element.name(), weaponType.name(), imageUrl, rarity);
+    }
+
     // Getters and Setters
     public Long getId() {
         return id;
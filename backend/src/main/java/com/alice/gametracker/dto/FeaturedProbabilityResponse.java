@@ -0,0 +1,114 @@
+package com.alice.gametracker.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+// Chance of getting the featured 5-star within N pulls from a given pity/guarantee state
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class FeaturedProbabilityResponse {
+    private Long bannerId;
+    private String bannerType;
+    private int pulls;
+    private int currentPity;
+    private boolean guaranteed;
+    private double probability; // 0..1
+    private double[] cumulative; // cumulative[i] = P(featured within i + 1 pulls)
+    private String method; // "SIMULATION" or "EXACT"
+    private Integer trials; // Only for SIMULATION
+    private Long seed; // Only for SIMULATION
+
+    public FeaturedProbabilityResponse() {
+    }
+
+    public FeaturedProbabilityResponse(Long bannerId, String bannerType, int pulls, int currentPity,
+                                       boolean guaranteed, double probability, double[] cumulative, String method) {
+        this.bannerId = bannerId;
+        this.bannerType = bannerType;
+        this.pulls = pulls;
+        this.currentPity = currentPity;
+        this.guaranteed = guaranteed;
+        this.probability = probability;
+        this.cumulative = cumulative;
+        this.method = method;
+    }
+
+    // Getters and Setters
+    public Long getBannerId() {
+        return bannerId;
+    }
+
+    public void setBannerId(Long bannerId) {
+        this.bannerId = bannerId;
+    }
+
+    public String getBannerType() {
+        return bannerType;
+    }
+
+    public void setBannerType(String bannerType) {
+        this.bannerType = bannerType;
+    }
+
+    public int getPulls() {
+        return pulls;
+    }
+
+    public void setPulls(int pulls) {
+        this.pulls = pulls;
+    }
+
+    public int getCurrentPity() {
+        return currentPity;
+    }
+
+    public void setCurrentPity(int currentPity) {
+        this.currentPity = currentPity;
+    }
+
+    public boolean isGuaranteed() {
+        return guaranteed;
+    }
+
+    public void setGuaranteed(boolean guaranteed) {
+        this.guaranteed = guaranteed;
+    }
+
+    public double getProbability() {
+        return probability;
+    }
+
+    public void setProbability(double probability) {
+        this.probability = probability;
+    }
+
+    public double[] getCumulative() {
+        return cumulative;
+    }
+
+    public void setCumulative(double[] cumulative) {
+        this.cumulative = cumulative;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public void setMethod(String method) {
+        this.method = method;
+    }
+
+    public Integer getTrials() {
+        return trials;
+    }
+
+    public void setTrials(Integer trials) {
+        this.trials = trials;
+    }
+
+    public Long getSeed() {
+        return seed;
+    }
+
+    public void setSeed(Long seed) {
+        this.seed = seed;
+    }
+}
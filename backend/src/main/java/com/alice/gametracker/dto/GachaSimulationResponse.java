@@ -0,0 +1,154 @@
+package com.alice.gametracker.dto;
+
+// Aggregated statistics of a bulk gacha simulation (no per-item results)
+public class GachaSimulationResponse {
+    private Long bannerId;
+    private String bannerType;
+    private long totalPulls;
+    private long fiveStarCount;
+    private long fourStarCount;
+    private long threeStarCount;
+    private long featuredFiveStarCount;
+    private long fiftyFiftyWins;
+    private long fiftyFiftyLosses;
+    private double fiftyFiftyWinRate; // 0..1, 0 when no 50/50 happened (weapon banners)
+    private double averagePullsPerFiveStar;
+    private double expectedPullsPerFeatured;
+    private long[] pityHistogram; // pityHistogram[i] = number of 5-stars obtained at pity i + 1
+    private Long seed; // Re-run with the same seed to reproduce the result
+
+    public GachaSimulationResponse() {
+    }
+
+    public GachaSimulationResponse(Long bannerId, String bannerType, long totalPulls, long fiveStarCount, long fourStarCount,
+                                   long threeStarCount, long featuredFiveStarCount, long fiftyFiftyWins, long fiftyFiftyLosses,
+                                   long[] pityHistogram) {
+        this.bannerId = bannerId;
+        this.bannerType = bannerType;
+        this.totalPulls = totalPulls;
+        this.fiveStarCount = fiveStarCount;
+        this.fourStarCount = fourStarCount;
+        this.threeStarCount = threeStarCount;
+        this.featuredFiveStarCount = featuredFiveStarCount;
+        this.fiftyFiftyWins = fiftyFiftyWins;
+        this.fiftyFiftyLosses = fiftyFiftyLosses;
+        this.pityHistogram = pityHistogram;
+        long fiftyFiftyTotal = fiftyFiftyWins + fiftyFiftyLosses;
+        this.fiftyFiftyWinRate = fiftyFiftyTotal > 0 ? (double) fiftyFiftyWins / fiftyFiftyTotal : 0.0;
+        this.averagePullsPerFiveStar = fiveStarCount > 0 ? (double) totalPulls / fiveStarCount : 0.0;
+        this.expectedPullsPerFeatured = featuredFiveStarCount > 0 ? (double) totalPulls / featuredFiveStarCount : 0.0;
+    }
+
+    // Getters and Setters
+    public Long getBannerId() {
+        return bannerId;
+    }
+
+    public void setBannerId(Long bannerId) {
+        this.bannerId = bannerId;
+    }
+
+    public String getBannerType() {
+        return bannerType;
+    }
+
+    public void setBannerType(String bannerType) {
+        this.bannerType = bannerType;
+    }
+
+    public long getTotalPulls() {
+        return totalPulls;
+    }
+
+    public void setTotalPulls(long totalPulls) {
+        this.totalPulls = totalPulls;
+    }
+
+    public long getFiveStarCount() {
+        return fiveStarCount;
+    }
+
+    public void setFiveStarCount(long fiveStarCount) {
+        this.fiveStarCount = fiveStarCount;
+    }
+
+    public long getFourStarCount() {
+        return fourStarCount;
+    }
+
+    public void setFourStarCount(long fourStarCount) {
+        this.fourStarCount = fourStarCount;
+    }
+
+    public long getThreeStarCount() {
+        return threeStarCount;
+    }
+
+    public void setThreeStarCount(long threeStarCount) {
+        this.threeStarCount = threeStarCount;
+    }
+
+    public long getFeaturedFiveStarCount() {
+        return featuredFiveStarCount;
+    }
+
+    public void setFeaturedFiveStarCount(long featuredFiveStarCount) {
+        this.featuredFiveStarCount = featuredFiveStarCount;
+    }
+
+    public long getFiftyFiftyWins() {
+        return fiftyFiftyWins;
+    }
+
+    public void setFiftyFiftyWins(long fiftyFiftyWins) {
+        this.fiftyFiftyWins = fiftyFiftyWins;
+    }
+
+    public long getFiftyFiftyLosses() {
+        return fiftyFiftyLosses;
+    }
+
+    public void setFiftyFiftyLosses(long fiftyFiftyLosses) {
+        this.fiftyFiftyLosses = fiftyFiftyLosses;
+    }
+
+    public double getFiftyFiftyWinRate() {
+        return fiftyFiftyWinRate;
+    }
+
+    public void setFiftyFiftyWinRate(double fiftyFiftyWinRate) {
+        this.fiftyFiftyWinRate = fiftyFiftyWinRate;
+    }
+
+    public double getAveragePullsPerFiveStar() {
+        return averagePullsPerFiveStar;
+    }
+
+    public void setAveragePullsPerFiveStar(double averagePullsPerFiveStar) {
+        this.averagePullsPerFiveStar = averagePullsPerFiveStar;
+    }
+
+    public double getExpectedPullsPerFeatured() {
+        return expectedPullsPerFeatured;
+    }
+
+    public void setExpectedPullsPerFeatured(double expectedPullsPerFeatured) {
+        this.expectedPullsPerFeatured = expectedPullsPerFeatured;
+    }
+
+    public long[] getPityHistogram() {
+        return pityHistogram;
+    }
+
+    public void setPityHistogram(long[] pityHistogram) {
+        this.pityHistogram = pityHistogram;
+    }
+
+    public Long getSeed() {
+        return seed;
+    }
+
+    public void setSeed(Long seed) {
+        this.seed = seed;
+    }
+}
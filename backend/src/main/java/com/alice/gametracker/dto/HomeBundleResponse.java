@@ -0,0 +1,50 @@
+package com.alice.gametracker.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Everything the landing page needs, assembled in one response.
+ */
+public class HomeBundleResponse {
+
+    private List<BannerResponse> currentBanners;
+    private List<BannerResponse> upcomingBanners;
+    private FeaturedFiveStarIdsResponse featuredIds;
+    private List<EventResponse> activeEvents;
+    private List<CharacterCardResponse> characterCards;
+    private List<WeaponCardResponse> weaponCards;
+    private List<Map<String, String>> elementIcons;
+    private List<Map<String, String>> backgrounds;
+    private LocalDateTime generatedAt;
+
+    public HomeBundleResponse() {}
+
+    public List<BannerResponse> getCurrentBanners() { return currentBanners; }
+    public void setCurrentBanners(List<BannerResponse> currentBanners) { this.currentBanners = currentBanners; }
+
+    public List<BannerResponse> getUpcomingBanners() { return upcomingBanners; }
+    public void setUpcomingBanners(List<BannerResponse> upcomingBanners) { this.upcomingBanners = upcomingBanners; }
+
+    public FeaturedFiveStarIdsResponse getFeaturedIds() { return featuredIds; }
+    public void setFeaturedIds(FeaturedFiveStarIdsResponse featuredIds) { this.featuredIds = featuredIds; }
+
+    public List<EventResponse> getActiveEvents() { return activeEvents; }
+    public void setActiveEvents(List<EventResponse> activeEvents) { this.activeEvents = activeEvents; }
+
+    public List<CharacterCardResponse> getCharacterCards() { return characterCards; }
+    public void setCharacterCards(List<CharacterCardResponse> characterCards) { this.characterCards = characterCards; }
+
+    public List<WeaponCardResponse> getWeaponCards() { return weaponCards; }
+    public void setWeaponCards(List<WeaponCardResponse> weaponCards) { this.weaponCards = weaponCards; }
+
+    public List<Map<String, String>> getElementIcons() { return elementIcons; }
+    public void setElementIcons(List<Map<String, String>> elementIcons) { this.elementIcons = elementIcons; }
+
+    public List<Map<String, String>> getBackgrounds() { return backgrounds; }
+    public void setBackgrounds(List<Map<String, String>> backgrounds) { this.backgrounds = backgrounds; }
+
+    public LocalDateTime getGeneratedAt() { return generatedAt; }
+    public void setGeneratedAt(LocalDateTime generatedAt) { this.generatedAt = generatedAt; }
+}
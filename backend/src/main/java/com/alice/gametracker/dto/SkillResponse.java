@@ -2,12 +2,17 @@ package com.alice.gametracker.dto;
 
 import java.time.LocalDateTime;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonRawValue;
 import com.fasterxml.jackson.databind.JsonNode;
 
 public class SkillResponse {
 
     private Long id;
     private JsonNode skill;
+    // Already-validated skill JSON, written to the response as-is
+    private String skillJson;
     private Boolean isActive;
     private LocalDateTime createdDate;
 
@@ -20,11 +25,23 @@ public class SkillResponse {
         this.createdDate = createdDate;
     }
 
+    public SkillResponse(Long id, JsonNode skill, String skillJson, Boolean isActive, LocalDateTime createdDate) {
+        this(id, skill, isActive, createdDate);
+        this.skillJson = skillJson;
+    }
+
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
 
+    @JsonIgnore
     public JsonNode getSkill() { return skill; }
-    public void setSkill(JsonNode skill) { this.skill = skill; }
+    @JsonProperty("skill")
+    public void setSkill(JsonNode skill) { this.skill = skill; this.skillJson = null; }
+
+    // Serialized as "skill": the stored text when available, otherwise the tree
+    @JsonRawValue
+    @JsonProperty("skill")
+    public String getSkillJson() { return skillJson != null ? skillJson : (skill != null ? skill.toString() : null); }
 
     public Boolean getIsActive() { return isActive; }
     public void setIsActive(Boolean isActive) { this.isActive = isActive; }
@@ -1,5 +1,7 @@
 package com.alice.gametracker.dto;
 
+import com.alice.gametracker.model.WeaponType;
+
 // Simplified DTO for displaying weapon cards on public weapon listing page
 public class WeaponCardResponse {
 
@@ -20,6 +22,11 @@ public class WeaponCardResponse {
         this.rarity = rarity;
     }
 
+    // Used by the card projection query in WeaponRepository
+    public WeaponCardResponse(Long id, String name, WeaponType type, String imageUrl, Integer rarity) {
+        this(id, name, type != null ? type.name() : null, imageUrl, rarity);
+    }
+
     // Getters and Setters
     public Long getId() {
         return id;
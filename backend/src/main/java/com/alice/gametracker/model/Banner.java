@@ -8,6 +8,7 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -38,43 +39,43 @@ public class Banner {
 
     // === CHARACTER BANNER FIELDS ===
     // Featured 5-star character (Main character) - nullable for weapon banners
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "featured_5star_character_id")
     private Character featured5StarCharacter;
 
     // First 4-star character - nullable for weapon banners
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "featured_4star_character_1_id")
     private Character featured4StarCharacter1;
 
     // Second 4-star character - nullable for weapon banners
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "featured_4star_character_2_id")
     private Character featured4StarCharacter2;
 
     // Third 4-star character - nullable for weapon banners
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "featured_4star_character_3_id")
     private Character featured4StarCharacter3;
 
     // === WEAPON BANNER FIELDS ===
     // Featured 5-star weapon (Main weapon) - nullable for character banners
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "featured_5star_weapon_id")
     private Weapon featured5StarWeapon;
 
     // First 4-star weapon - nullable for character banners
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "featured_4star_weapon_1_id")
     private Weapon featured4StarWeapon1;
 
     // Second 4-star weapon - nullable for character banners
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "featured_4star_weapon_2_id")
     private Weapon featured4StarWeapon2;
 
     // Third 4-star weapon - nullable for character banners
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "featured_4star_weapon_3_id")
     private Weapon featured4StarWeapon3;
 
@@ -236,14 +237,17 @@ public class Banner {
     public void updateStatus() {
         // Use Vietnam timezone (UTC+7) since database stores Vietnam local time
         LocalDateTime now = ZonedDateTime.now(ZoneId.of("Asia/Ho_Chi_Minh")).toLocalDateTime();
-        
+        this.status = statusAt(startDate, endDate, now);
+    }
+
+    // Status of a banner running from startDate to endDate, as of `now`
+    public static BannerStatus statusAt(LocalDateTime startDate, LocalDateTime endDate, LocalDateTime now) {
         if (now.isBefore(startDate)) {
-            this.status = BannerStatus.UPCOMING;
+            return BannerStatus.UPCOMING;
         } else if (now.isAfter(endDate)) {
-            this.status = BannerStatus.ENDED;
-        } else {
-            this.status = BannerStatus.ACTIVE;
+            return BannerStatus.ENDED;
         }
+        return BannerStatus.ACTIVE;
     }
 
     // Helper method to check if banner is currently active
@@ -2,23 +2,31 @@ package com.alice.gametracker.model;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Locale;
 
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 
 @Entity
-@Table(name = "characters")
+@Table(name = "characters", indexes = {
+    @Index(name = "ix_characters_name_normalized", columnList = "name_normalized"),
+    @Index(name = "ix_characters_is_active", columnList = "is_active")
+})
 public class Character {
 
     @Id
@@ -28,6 +36,10 @@ public class Character {
     @Column(nullable = false)
     private String name;
 
+    // Trimmed, lowercased name for indexed case-insensitive lookups (maintained by normalizeName)
+    @Column(name = "name_normalized")
+    private String nameNormalized;
+
     @Column(nullable = false)
     private int rarity;
 
@@ -55,11 +67,11 @@ public class Character {
 
     private String imageUrl;       // Link ảnh nhân vật
 
-    @OneToOne(cascade = CascadeType.ALL)
+    @OneToOne(cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     @JoinColumn(name = "stats_id")
     private Stats stats;           // One-to-One
 
-    @OneToOne(cascade = CascadeType.ALL)
+    @OneToOne(cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     @JoinColumn(name = "skill_id")
     private Skill skill;           // One-to-One
 
@@ -117,4 +129,12 @@ public class Character {
 
     public LocalDateTime getCreatedDate() { return createdDate; }
     public void setCreatedDate(LocalDateTime createdDate) { this.createdDate = createdDate; }
-}
\ No newline at end of file
+
+    public String getNameNormalized() { return nameNormalized; }
+
+    @PrePersist
+    @PreUpdate
+    void normalizeName() {
+        this.nameNormalized = name != null ? name.trim().toLowerCase(Locale.ROOT) : null;
+    }
+}
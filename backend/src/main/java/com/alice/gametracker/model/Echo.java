@@ -10,13 +10,16 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.Table;
 
 @Entity
-@Table(name = "echoes")
+@Table(name = "echoes", indexes = {
+    @Index(name = "ix_echoes_is_active", columnList = "is_active")
+})
 public class Echo {
 
     @Id
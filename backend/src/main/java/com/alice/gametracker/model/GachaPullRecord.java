@@ -0,0 +1,105 @@
+package com.alice.gametracker.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+// One pull imported from the game's gacha record API
+@Entity
+@Table(name = "gacha_pull_records",
+    uniqueConstraints = @UniqueConstraint(name = "uk_gacha_pull_player_pool_seq", columnNames = {"player_id", "card_pool_type", "seq"}),
+    indexes = @Index(name = "ix_gacha_pull_player_pool_quality", columnList = "player_id, card_pool_type, quality_level"))
+public class GachaPullRecord {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "player_id", nullable = false, length = 50)
+    private String playerId;
+
+    @Column(name = "card_pool_type", nullable = false)
+    private int cardPoolType;
+
+    // Pool label as returned upstream in the record's "cardPoolType" field
+    @Column(length = 100)
+    private String cardPoolName;
+
+    // Position in the player's history for this pool (oldest = 1)
+    @Column(nullable = false)
+    private long seq;
+
+    @Column(name = "record_time", nullable = false)
+    private LocalDateTime recordTime;
+
+    @Column(length = 100)
+    private String name;
+
+    private Long resourceId;
+
+    @Column(length = 50)
+    private String resourceType; // "Weapon" or "Resonator"
+
+    @Column(name = "quality_level", nullable = false)
+    private int qualityLevel;
+
+    @Column(nullable = false)
+    private int count = 1;
+
+    // Pulls since the previous item of the same rarity (0 for 3-star)
+    @Column(nullable = false)
+    private int pityCount;
+
+    @Column(nullable = false)
+    private LocalDateTime createdDate = LocalDateTime.now();
+
+    // Constructors
+    public GachaPullRecord() {}
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getPlayerId() { return playerId; }
+    public void setPlayerId(String playerId) { this.playerId = playerId; }
+
+    public int getCardPoolType() { return cardPoolType; }
+    public void setCardPoolType(int cardPoolType) { this.cardPoolType = cardPoolType; }
+
+    public String getCardPoolName() { return cardPoolName; }
+    public void setCardPoolName(String cardPoolName) { this.cardPoolName = cardPoolName; }
+
+    public long getSeq() { return seq; }
+    public void setSeq(long seq) { this.seq = seq; }
+
+    public LocalDateTime getRecordTime() { return recordTime; }
+    public void setRecordTime(LocalDateTime recordTime) { this.recordTime = recordTime; }
+
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+
+    public Long getResourceId() { return resourceId; }
+    public void setResourceId(Long resourceId) { this.resourceId = resourceId; }
+
+    public String getResourceType() { return resourceType; }
+    public void setResourceType(String resourceType) { this.resourceType = resourceType; }
+
+    public int getQualityLevel() { return qualityLevel; }
+    public void setQualityLevel(int qualityLevel) { this.qualityLevel = qualityLevel; }
+
+    public int getCount() { return count; }
+    public void setCount(int count) { this.count = count; }
+
+    public int getPityCount() { return pityCount; }
+    public void setPityCount(int pityCount) { this.pityCount = pityCount; }
+
+    public LocalDateTime getCreatedDate() { return createdDate; }
+    public void setCreatedDate(LocalDateTime createdDate) { this.createdDate = createdDate; }
+}
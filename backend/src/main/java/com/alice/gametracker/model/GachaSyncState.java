@@ -0,0 +1,82 @@
+package com.alice.gametracker.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+// Where the stored history of one player's card pool ends, so the next sync only imports the new tail
+@Entity
+@Table(name = "gacha_sync_states",
+    uniqueConstraints = @UniqueConstraint(name = "uk_gacha_sync_player_pool", columnNames = {"player_id", "card_pool_type"}))
+public class GachaSyncState {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "player_id", nullable = false, length = 50)
+    private String playerId;
+
+    @Column(name = "card_pool_type", nullable = false)
+    private int cardPoolType;
+
+    // Time of the newest stored record and how many stored records share that time (multi-pulls)
+    private LocalDateTime lastRecordTime;
+
+    @Column(nullable = false)
+    private int lastRecordTimeCount;
+
+    @Column(nullable = false)
+    private long lastSeq;
+
+    // Running pity counters after the newest stored record
+    @Column(nullable = false)
+    private int fiveStarPity;
+
+    @Column(nullable = false)
+    private int fourStarPity;
+
+    private LocalDateTime lastSyncedAt;
+
+    // Constructors
+    public GachaSyncState() {}
+
+    public GachaSyncState(String playerId, int cardPoolType) {
+        this.playerId = playerId;
+        this.cardPoolType = cardPoolType;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getPlayerId() { return playerId; }
+    public void setPlayerId(String playerId) { this.playerId = playerId; }
+
+    public int getCardPoolType() { return cardPoolType; }
+    public void setCardPoolType(int cardPoolType) { this.cardPoolType = cardPoolType; }
+
+    public LocalDateTime getLastRecordTime() { return lastRecordTime; }
+    public void setLastRecordTime(LocalDateTime lastRecordTime) { this.lastRecordTime = lastRecordTime; }
+
+    public int getLastRecordTimeCount() { return lastRecordTimeCount; }
+    public void setLastRecordTimeCount(int lastRecordTimeCount) { this.lastRecordTimeCount = lastRecordTimeCount; }
+
+    public long getLastSeq() { return lastSeq; }
+    public void setLastSeq(long lastSeq) { this.lastSeq = lastSeq; }
+
+    public int getFiveStarPity() { return fiveStarPity; }
+    public void setFiveStarPity(int fiveStarPity) { this.fiveStarPity = fiveStarPity; }
+
+    public int getFourStarPity() { return fourStarPity; }
+    public void setFourStarPity(int fourStarPity) { this.fourStarPity = fourStarPity; }
+
+    public LocalDateTime getLastSyncedAt() { return lastSyncedAt; }
+    public void setLastSyncedAt(LocalDateTime lastSyncedAt) { this.lastSyncedAt = lastSyncedAt; }
+}
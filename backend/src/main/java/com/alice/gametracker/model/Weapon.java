@@ -1,6 +1,7 @@
 package com.alice.gametracker.model;
 
 import java.time.LocalDateTime;
+import java.util.Locale;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -9,10 +10,16 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 
 @Entity
-@Table(name = "weapons")
+@Table(name = "weapons", indexes = {
+    @Index(name = "ix_weapons_name_normalized", columnList = "name_normalized"),
+    @Index(name = "ix_weapons_is_active", columnList = "is_active")
+})
 public class Weapon {
 
     @Id
@@ -26,6 +33,10 @@ public class Weapon {
     @Column(nullable = false, length = 100)
     private String name;
 
+    // Trimmed, lowercased name for indexed case-insensitive lookups (maintained by normalizeName)
+    @Column(name = "name_normalized", length = 100)
+    private String nameNormalized;
+
     @Column(length = 500)
     private String imageUrl;
 
@@ -106,4 +117,12 @@ public class Weapon {
 
     public LocalDateTime getCreatedDate() { return createdDate; }
     public void setCreatedDate(LocalDateTime createdDate) { this.createdDate = createdDate; }
-}
\ No newline at end of file
+
+    public String getNameNormalized() { return nameNormalized; }
+
+    @PrePersist
+    @PreUpdate
+    void normalizeName() {
+        this.nameNormalized = name != null ? name.trim().toLowerCase(Locale.ROOT) : null;
+    }
+}
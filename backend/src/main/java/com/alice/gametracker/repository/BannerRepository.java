@@ -5,14 +5,31 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import com.alice.gametracker.dto.BannerResponse;
 import com.alice.gametracker.model.Banner;
 import com.alice.gametracker.model.BannerStatus;
+import com.alice.gametracker.model.BannerType;
 
 @Repository
 public interface BannerRepository extends JpaRepository<Banner, Long> {
+
+    // Banner list rows: banner columns plus id/name/imageUrl of the featured units,
+    // so listings never load full Character/Weapon entities
+    String SUMMARY_SELECT = "SELECT new com.alice.gametracker.dto.BannerResponse("
+        + "b.id, b.name, b.startDate, b.endDate, b.bannerType, b.status, b.isActive, b.createdDate, "
+        + "c5.id, c5.name, c5.imageUrl, c41.id, c41.name, c41.imageUrl, "
+        + "c42.id, c42.name, c42.imageUrl, c43.id, c43.name, c43.imageUrl, "
+        + "w5.id, w5.name, w5.imageUrl, w41.id, w41.name, w41.imageUrl, "
+        + "w42.id, w42.name, w42.imageUrl, w43.id, w43.name, w43.imageUrl) "
+        + "FROM Banner b "
+        + "LEFT JOIN b.featured5StarCharacter c5 LEFT JOIN b.featured4StarCharacter1 c41 "
+        + "LEFT JOIN b.featured4StarCharacter2 c42 LEFT JOIN b.featured4StarCharacter3 c43 "
+        + "LEFT JOIN b.featured5StarWeapon w5 LEFT JOIN b.featured4StarWeapon1 w41 "
+        + "LEFT JOIN b.featured4StarWeapon2 w42 LEFT JOIN b.featured4StarWeapon3 w43 ";
     
     // Find all active banners
     List<Banner> findByIsActiveTrueOrderByStartDateDesc();
@@ -32,6 +49,41 @@ public interface BannerRepository extends JpaRepository<Banner, Long> {
     @Query("SELECT b FROM Banner b WHERE b.isActive = true AND :now > b.endDate ORDER BY b.endDate DESC")
     List<Banner> findPastBanners(LocalDateTime now);
     
+    @Query(SUMMARY_SELECT + "WHERE b.isActive = true ORDER BY b.startDate DESC")
+    List<BannerResponse> findActiveSummaries();
+
+    // One banner with all featured units loaded, for gacha rolls and detail views
+    @Query("SELECT b FROM Banner b "
+         + "LEFT JOIN FETCH b.featured5StarCharacter LEFT JOIN FETCH b.featured4StarCharacter1 "
+         + "LEFT JOIN FETCH b.featured4StarCharacter2 LEFT JOIN FETCH b.featured4StarCharacter3 "
+         + "LEFT JOIN FETCH b.featured5StarWeapon LEFT JOIN FETCH b.featured4StarWeapon1 "
+         + "LEFT JOIN FETCH b.featured4StarWeapon2 LEFT JOIN FETCH b.featured4StarWeapon3 "
+         + "WHERE b.id = :id")
+    Optional<Banner> findByIdWithFeatured(Long id);
+
+    // Only the type of one banner, for the simulation and probability endpoints
+    @Query("SELECT b.bannerType FROM Banner b WHERE b.id = :id")
+    Optional<BannerType> findBannerTypeById(Long id);
+    
+    // Set every active banner's status from its dates in one statement; returns the number of rows changed
+    @Modifying
+    @Query("UPDATE Banner b SET b.status = CASE "
+         + "WHEN :now < b.startDate THEN com.alice.gametracker.model.BannerStatus.UPCOMING "
+         + "WHEN :now > b.endDate THEN com.alice.gametracker.model.BannerStatus.ENDED "
+         + "ELSE com.alice.gametracker.model.BannerStatus.ACTIVE END "
+         + "WHERE b.isActive = true AND b.status <> CASE "
+         + "WHEN :now < b.startDate THEN com.alice.gametracker.model.BannerStatus.UPCOMING "
+         + "WHEN :now > b.endDate THEN com.alice.gametracker.model.BannerStatus.ENDED "
+         + "ELSE com.alice.gametracker.model.BannerStatus.ACTIVE END")
+    int updateStatuses(LocalDateTime now);
+
+    // Next start after `now` and next end not yet passed, null when there is none
+    @Query("SELECT MIN(b.startDate) FROM Banner b WHERE b.isActive = true AND b.startDate > :now")
+    LocalDateTime findNextStart(LocalDateTime now);
+
+    @Query("SELECT MIN(b.endDate) FROM Banner b WHERE b.isActive = true AND b.endDate >= :now")
+    LocalDateTime findNextEnd(LocalDateTime now);
+    
     // Find banner by name
     Optional<Banner> findByName(String name);
 }
@@ -1,5 +1,6 @@
 package com.alice.gametracker.repository;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -7,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.alice.gametracker.dto.CharacterCardResponse;
 import com.alice.gametracker.model.Character;
 
 @Repository
@@ -17,4 +19,24 @@ public interface CharacterRepository extends JpaRepository<Character, Long> {
     
     @Query("SELECT DISTINCT c FROM Character c LEFT JOIN FETCH c.skill LEFT JOIN FETCH c.stats LEFT JOIN FETCH c.roles WHERE c.id = :id")
     Optional<Character> findByIdWithRelations(@Param("id") Long id);
-}
\ No newline at end of file
+
+    // All characters with skill, stats and roles in one statement (findAll loads each relation per row)
+    @Query("SELECT DISTINCT c FROM Character c LEFT JOIN FETCH c.skill LEFT JOIN FETCH c.stats LEFT JOIN FETCH c.roles")
+    List<Character> findAllWithRelations();
+
+    @Query("SELECT DISTINCT c FROM Character c LEFT JOIN FETCH c.skill LEFT JOIN FETCH c.stats LEFT JOIN FETCH c.roles WHERE c.isActive = true")
+    List<Character> findActiveWithRelations();
+
+    // Active character cards, selecting only the card columns
+    @Query("SELECT new com.alice.gametracker.dto.CharacterCardResponse(c.id, c.name, c.element, c.weaponType, c.imageUrl, c.rarity) "
+         + "FROM Character c WHERE c.isActive = true ORDER BY c.id")
+    List<CharacterCardResponse> findActiveCards();
+
+    // Card columns of every 4/5-star character (active or not), for the gacha pools
+    @Query("SELECT new com.alice.gametracker.dto.CharacterCardResponse(c.id, c.name, c.element, c.weaponType, c.imageUrl, c.rarity) "
+         + "FROM Character c WHERE c.rarity >= 4 ORDER BY c.id")
+    List<CharacterCardResponse> findPoolCards();
+
+    // Case-insensitive name lookup on the indexed name_normalized column
+    Optional<Character> findFirstByNameNormalized(String nameNormalized);
+}
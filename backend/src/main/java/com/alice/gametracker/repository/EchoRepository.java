@@ -1,5 +1,7 @@
 package com.alice.gametracker.repository;
 
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -7,4 +9,6 @@ import com.alice.gametracker.model.Echo;
 
 @Repository
 public interface EchoRepository extends JpaRepository<Echo, Long> {
+
+    List<Echo> findByIsActiveTrue();
 }
\ No newline at end of file
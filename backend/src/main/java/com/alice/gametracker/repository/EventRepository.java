@@ -6,6 +6,9 @@ import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.alice.gametracker.model.Event;
@@ -27,4 +30,26 @@ public interface EventRepository extends JpaRepository<Event, Long> {
     List<Event> findByStartDateBetween(LocalDateTime start, LocalDateTime end);
 
     Page<Event> findByStartDateBetween(LocalDateTime start, LocalDateTime end, Pageable pageable);
+
+    // Keyset pages, newest first: events with an id below the cursor
+    List<Event> findByIdLessThanOrderByIdDesc(Long before, Pageable pageable);
+
+    // Active events not ended at `now` (end > now, or no end), running or announced;
+    // seeks on ix_events_active_end_start
+    @Query("SELECT e FROM Event e WHERE e.isActive = true AND (e.endDate IS NULL OR e.endDate > :now)")
+    List<Event> findNotEnded(@Param("now") LocalDateTime now);
+
+    // Deactivate every active event that ended before `now`; returns the number of rows changed
+    @Modifying
+    @Query("UPDATE Event e SET e.isActive = false WHERE e.isActive = true AND e.endDate < :now")
+    int deactivateExpired(@Param("now") LocalDateTime now);
+
+    long countByIsActiveTrueAndStartDateBetween(LocalDateTime from, LocalDateTime to);
+
+    // Next start / end of an active event ahead of `now`, null when there is none
+    @Query("SELECT MIN(e.startDate) FROM Event e WHERE e.isActive = true AND e.startDate > :now")
+    LocalDateTime findNextStart(@Param("now") LocalDateTime now);
+
+    @Query("SELECT MIN(e.endDate) FROM Event e WHERE e.isActive = true AND e.endDate >= :now")
+    LocalDateTime findNextEnd(@Param("now") LocalDateTime now);
 }
@@ -0,0 +1,15 @@
+package com.alice.gametracker.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.alice.gametracker.model.GachaPullRecord;
+
+@Repository
+public interface GachaPullRecordRepository extends JpaRepository<GachaPullRecord, Long> {
+
+    // 4/5-star records of a player, newest first within each pool
+    List<GachaPullRecord> findByPlayerIdAndQualityLevelGreaterThanEqualOrderByCardPoolTypeAscSeqDesc(String playerId, int qualityLevel);
+}
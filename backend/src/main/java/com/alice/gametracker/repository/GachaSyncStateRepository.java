@@ -0,0 +1,25 @@
+package com.alice.gametracker.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import com.alice.gametracker.model.GachaSyncState;
+
+import jakarta.persistence.LockModeType;
+
+@Repository
+public interface GachaSyncStateRepository extends JpaRepository<GachaSyncState, Long> {
+
+    Optional<GachaSyncState> findByPlayerIdAndCardPoolType(String playerId, int cardPoolType);
+
+    // Same lookup holding an update lock until the transaction ends. On SQL Server this is
+    // UPDLOCK + HOLDLOCK, which also locks the key range when there is no row yet, so a
+    // second import of the same (player, pool) waits for the first one to commit
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM GachaSyncState s WHERE s.playerId = :playerId AND s.cardPoolType = :cardPoolType")
+    Optional<GachaSyncState> findForUpdate(String playerId, int cardPoolType);
+}
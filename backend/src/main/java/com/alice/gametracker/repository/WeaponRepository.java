@@ -1,10 +1,30 @@
 package com.alice.gametracker.repository;
 
+import java.util.List;
+import java.util.Optional;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import com.alice.gametracker.dto.WeaponCardResponse;
 import com.alice.gametracker.model.Weapon;
 
 @Repository
 public interface WeaponRepository extends JpaRepository<Weapon, Long> {
-}
\ No newline at end of file
+
+    List<Weapon> findByIsActiveTrue();
+
+    // Case-insensitive name lookup on the indexed name_normalized column
+    Optional<Weapon> findFirstByNameNormalized(String nameNormalized);
+
+    // Active weapon cards, selecting only the card columns
+    @Query("SELECT new com.alice.gametracker.dto.WeaponCardResponse(w.id, w.name, w.weaponType, w.imageUrl, w.rarity) "
+         + "FROM Weapon w WHERE w.isActive = true ORDER BY w.id")
+    List<WeaponCardResponse> findActiveCards();
+
+    // Card columns of every 3/4-star weapon (active or not), for the gacha pools
+    @Query("SELECT new com.alice.gametracker.dto.WeaponCardResponse(w.id, w.name, w.weaponType, w.imageUrl, w.rarity) "
+         + "FROM Weapon w WHERE w.rarity IN (3, 4) ORDER BY w.id")
+    List<WeaponCardResponse> findPoolCards();
+}
@@ -1,76 +1,146 @@
 package com.alice.gametracker.scheduler;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
-import java.util.List;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.concurrent.ScheduledFuture;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
-import com.alice.gametracker.model.Banner;
-import com.alice.gametracker.model.Event;
 import com.alice.gametracker.repository.BannerRepository;
 import com.alice.gametracker.repository.EventRepository;
+import com.alice.gametracker.service.BannerService;
+import com.alice.gametracker.service.CatalogVersions;
+import com.alice.gametracker.service.EventService;
 
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Applies banner status changes and event expiry when they happen. The next start/end
+ * instant across banners and events arms a single timer; when it fires, set-based
+ * UPDATEs bring every affected row up to date and the timer is armed for the next one.
+ * Banner and event writes re-arm it, and an hourly run catches anything missed while
+ * the process was suspended.
+ */
 @Component
 public class StatusUpdateScheduler {
     
     private static final Logger log = LoggerFactory.getLogger(StatusUpdateScheduler.class);
+
+    // Banner and event dates are stored as Vietnam local time
+    private static final ZoneId ZONE = ZoneId.of("Asia/Ho_Chi_Minh");
     
     @Autowired
     private BannerRepository bannerRepository;
     
     @Autowired
     private EventRepository eventRepository;
-    
-    // Run every hour at minute 0
-    @Scheduled(cron = "0 0 * * * *")
-    @Transactional
-    public void updateBannerStatuses() {
-        log.info("Starting banner status update task");
-        LocalDateTime now = LocalDateTime.now();
-        
-        List<Banner> banners = bannerRepository.findAll();
-        int updated = 0;
-        
-        for (Banner banner : banners) {
-            String oldStatus = banner.getStatus().toString();
-            banner.updateStatus();
-            String newStatus = banner.getStatus().toString();
-            
-            if (!oldStatus.equals(newStatus)) {
-                bannerRepository.save(banner);
-                updated++;
-                log.info("Updated banner '{}' status from {} to {}", 
-                    banner.getName(), oldStatus, newStatus);
+
+    @Autowired
+    private CatalogVersions catalogVersions;
+
+    @Autowired
+    private BannerService bannerService;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private TaskScheduler taskScheduler;
+
+    private ScheduledFuture<?> pending;
+    private LocalDateTime pendingAt;
+    private LocalDateTime lastAppliedAt;
+
+    @PostConstruct
+    public void init() {
+        // Banner/event writes may move the next transition; re-arm off the writer's thread
+        catalogVersions.addListener(type -> {
+            if (type == CatalogVersions.Type.BANNER || type == CatalogVersions.Type.EVENT) {
+                taskScheduler.schedule(this::reschedule, Instant.now());
             }
-        }
-        
-        log.info("Banner status update completed. Updated {} banners", updated);
+        });
     }
-    
-    // Run every hour at minute 0
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        runTransitions();
+    }
+
+    // Safety net for timers lost while the process was frozen or down
     @Scheduled(cron = "0 0 * * * *")
-    @Transactional
-    public void updateEventStatuses() {
-        log.info("Starting event status update task");
-        LocalDateTime now = LocalDateTime.now();
-        
-        List<Event> events = eventRepository.findAll();
-        int updated = 0;
-        
-        for (Event event : events) {
-            if (event.isActive() && event.getEndAt() != null && event.getEndAt().isBefore(now)) {
-                event.setActive(false);
-                eventRepository.save(event);
-                updated++;
-                log.info("Deactivated expired event '{}'", event.getTitle());
+    public void hourly() {
+        runTransitions();
+    }
+
+    private void runTransitions() {
+        applyTransitions();
+        reschedule();
+    }
+
+    // Bring banner statuses and event activity in line with the current time
+    private synchronized void applyTransitions() {
+        LocalDateTime now = ZonedDateTime.now(ZONE).toLocalDateTime();
+        // Each call is one set-based UPDATE and bumps its catalog version when rows change
+        int banners = bannerService.updateAllBannerStatuses();
+        int events = eventService.deactivateExpiredEvents();
+        // Event starts change what is listed as active without touching any row
+        if (events == 0 && (lastAppliedAt == null
+                || eventRepository.countByIsActiveTrueAndStartDateBetween(lastAppliedAt, now) > 0)) {
+            catalogVersions.bump(CatalogVersions.Type.EVENT);
+        }
+        if (banners > 0 || events > 0) {
+            log.info("Status transitions at {}: {} banners updated, {} events deactivated", now, banners, events);
+        }
+        lastAppliedAt = now;
+    }
+
+    // Arm the timer for the earliest upcoming start or end, replacing any pending one
+    private synchronized void reschedule() {
+        LocalDateTime now = ZonedDateTime.now(ZONE).toLocalDateTime();
+        LocalDateTime next = earliest(
+                bannerRepository.findNextStart(now),
+                afterEnd(bannerRepository.findNextEnd(now)),
+                eventRepository.findNextStart(now),
+                afterEnd(eventRepository.findNextEnd(now)));
+
+        if (next != null && next.equals(pendingAt) && pending != null && !pending.isDone()) {
+            return;
+        }
+        if (pending != null) {
+            pending.cancel(false);
+            pending = null;
+            pendingAt = null;
+        }
+        if (next == null) {
+            log.info("No upcoming banner or event transitions");
+            return;
+        }
+        pendingAt = next;
+        pending = taskScheduler.schedule(this::runTransitions, next.atZone(ZONE).toInstant());
+        log.info("Next banner/event transition at {}", next);
+    }
+
+    // Ended means now > endDate, so the change is applied just after the end instant
+    private static LocalDateTime afterEnd(LocalDateTime end) {
+        return end != null ? end.plusSeconds(1) : null;
+    }
+
+    private static LocalDateTime earliest(LocalDateTime... candidates) {
+        LocalDateTime earliest = null;
+        for (LocalDateTime candidate : candidates) {
+            if (candidate != null && (earliest == null || candidate.isBefore(earliest))) {
+                earliest = candidate;
             }
         }
-        
-        log.info("Event status update completed. Deactivated {} events", updated);
+        return earliest;
     }
 }
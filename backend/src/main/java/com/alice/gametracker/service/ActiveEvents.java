@@ -0,0 +1,64 @@
+package com.alice.gametracker.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import com.alice.gametracker.dto.EventResponse;
+
+/**
+ * Active events that had not ended when it was loaded, sorted by end date (open-ended last).
+ * Events that end later are dropped by binary search, so one snapshot answers any later
+ * instant until it is replaced. Immutable once built.
+ */
+public class ActiveEvents {
+
+    private static final Comparator<EventResponse> BY_END = Comparator.comparing(
+            EventResponse::getEndAt, Comparator.nullsLast(Comparator.<LocalDateTime>naturalOrder()))
+            .thenComparing(EventResponse::getId);
+
+    private final String versions;
+    private final long builtAt = System.currentTimeMillis();
+    private final EventResponse[] byEnd; // endAt ascending, null last, ties by id so paging is stable
+
+    public ActiveEvents(List<EventResponse> events, String versions) {
+        this.versions = versions;
+        this.byEnd = events.stream().sorted(BY_END).toArray(EventResponse[]::new);
+    }
+
+    // CatalogVersions tag this snapshot was built from
+    public String getVersions() { return versions; }
+
+    // Epoch millis when this snapshot was built
+    public long getBuiltAt() { return builtAt; }
+
+    // Not ended at `now` (now < endAt, or no endAt), including announced events; ending soonest first
+    public List<EventResponse> notEnded(LocalDateTime now) {
+        return List.of(Arrays.copyOfRange(byEnd, countEnded(now), byEnd.length));
+    }
+
+    // Running at `now`: startAt <= now < endAt (or no endAt); ending soonest first
+    public List<EventResponse> runningAt(LocalDateTime now) {
+        List<EventResponse> result = new ArrayList<>();
+        for (int i = countEnded(now); i < byEnd.length; i++) {
+            LocalDateTime start = byEnd[i].getStartAt();
+            if (start == null || !start.isAfter(now)) {
+                result.add(byEnd[i]);
+            }
+        }
+        return result;
+    }
+
+    // Number of leading rows with endAt <= now
+    private int countEnded(LocalDateTime now) {
+        int low = 0, high = byEnd.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            LocalDateTime end = byEnd[mid].getEndAt();
+            if (end != null && !end.isAfter(now)) low = mid + 1; else high = mid;
+        }
+        return low;
+    }
+}
@@ -4,22 +4,24 @@ import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Random;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.alice.gametracker.dto.BannerResponse;
 import com.alice.gametracker.dto.CreateBannerRequest;
+import com.alice.gametracker.dto.CursorPage;
 import com.alice.gametracker.dto.FeaturedFiveStarIdsResponse;
+import com.alice.gametracker.dto.FeaturedProbabilityResponse;
 import com.alice.gametracker.dto.GachaItemResponse;
 import com.alice.gametracker.dto.GachaRequest;
 import com.alice.gametracker.dto.GachaResultResponse;
+import com.alice.gametracker.dto.GachaSimulationResponse;
 import com.alice.gametracker.model.Banner;
 import com.alice.gametracker.model.BannerType;
 import com.alice.gametracker.model.Character;
@@ -27,6 +29,7 @@ import com.alice.gametracker.model.Weapon;
 import com.alice.gametracker.repository.BannerRepository;
 import com.alice.gametracker.repository.CharacterRepository;
 import com.alice.gametracker.repository.WeaponRepository;
+import com.alice.gametracker.utils.Paging;
 
 @Service
 public class BannerService {
@@ -40,48 +43,90 @@ public class BannerService {
     @Autowired
     private WeaponRepository weaponRepository;
 
+    @Autowired
+    private GachaPoolRegistry gachaPoolRegistry;
+
+    @Autowired
+    private GachaSimulator gachaSimulator;
+
+    @Autowired
+    private GachaProbabilityService gachaProbabilityService;
+
+    @Autowired
+    private CatalogVersions catalogVersions;
+
+    // Listings embed featured character/weapon names and images, so those writes rebuild it too
+    private static final CatalogVersions.Type[] TIMELINE_SOURCES = {
+        CatalogVersions.Type.BANNER, CatalogVersions.Type.CHARACTER, CatalogVersions.Type.WEAPON
+    };
+
+    // Writes made on other instances show up once the timeline is this old
+    @Value("${app.catalog.max-age-seconds:60}")
+    private long catalogMaxAgeSeconds;
+
+    private volatile BannerTimeline timeline;
+
     // Get all active banners
     public List<BannerResponse> getAllActiveBanners() {
-        List<Banner> banners = bannerRepository.findByIsActiveTrueOrderByStartDateDesc();
-        return banners.stream()
-                .peek(Banner::updateStatus)
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+        return timeline().all(vietnamNow());
     }
 
     // Get currently running banners
     public List<BannerResponse> getCurrentBanners() {
-        LocalDateTime vietnamNow = ZonedDateTime.now(ZoneId.of("Asia/Ho_Chi_Minh")).toLocalDateTime();
-        List<Banner> banners = bannerRepository.findCurrentlyActiveBanners(vietnamNow);
-        return banners.stream()
-                .peek(Banner::updateStatus)
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+        return timeline().current(vietnamNow());
     }
 
     // Get upcoming banners
     public List<BannerResponse> getUpcomingBanners() {
-        LocalDateTime vietnamNow = ZonedDateTime.now(ZoneId.of("Asia/Ho_Chi_Minh")).toLocalDateTime();
-        List<Banner> banners = bannerRepository.findUpcomingBanners(vietnamNow);
-        return banners.stream()
-                .peek(Banner::updateStatus)
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+        return timeline().upcoming(vietnamNow());
     }
 
     // Get past banners (history)
     public List<BannerResponse> getPastBanners() {
-        LocalDateTime vietnamNow = ZonedDateTime.now(ZoneId.of("Asia/Ho_Chi_Minh")).toLocalDateTime();
-        List<Banner> banners = bannerRepository.findPastBanners(vietnamNow);
-        return banners.stream()
-                .peek(Banner::updateStatus)
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+        return timeline().past(vietnamNow());
+    }
+
+    // In-memory timeline of active banners, reloaded once after a banner, character or weapon
+    // write on this instance, or once it reaches the catalog max age
+    private BannerTimeline timeline() {
+        String versions = catalogVersions.etag(TIMELINE_SOURCES);
+        BannerTimeline current = timeline;
+        if (isFresh(current, versions)) {
+            return current;
+        }
+        synchronized (this) {
+            current = timeline;
+            if (!isFresh(current, versions)) {
+                current = new BannerTimeline(bannerRepository.findActiveSummaries(), versions);
+                timeline = current;
+            }
+            return current;
+        }
+    }
+
+    private boolean isFresh(BannerTimeline current, String versions) {
+        return current != null
+                && current.getVersions().equals(versions)
+                && System.currentTimeMillis() - current.getBuiltAt() < catalogMaxAgeSeconds * 1000;
+    }
+
+    private static LocalDateTime vietnamNow() {
+        return ZonedDateTime.now(ZoneId.of("Asia/Ho_Chi_Minh")).toLocalDateTime();
+    }
+
+    // Page of getAllActiveBanners (latest start first); `after` is the last id of the previous page
+    public CursorPage<BannerResponse> getActiveBannersPage(Long after, int limit) {
+        return Paging.sliceAfterId(getAllActiveBanners(), BannerResponse::getId, after, limit);
+    }
+
+    // Page of getPastBanners (most recently ended first)
+    public CursorPage<BannerResponse> getPastBannersPage(Long after, int limit) {
+        return Paging.sliceAfterId(getPastBanners(), BannerResponse::getId, after, limit);
     }
 
     // Get banner by ID
     public BannerResponse getBannerById(Long id) {
-        Banner banner = bannerRepository.findById(id)
+        Banner banner = bannerRepository.findByIdWithFeatured(id)
                 .orElseThrow(() -> new RuntimeException("Banner not found with id: " + id));
         banner.updateStatus();
         return convertToResponse(banner);
@@ -173,6 +218,7 @@ public class BannerService {
 
         banner.updateStatus();
         Banner savedBanner = bannerRepository.save(banner);
+        catalogVersions.bump(CatalogVersions.Type.BANNER);
         return convertToResponse(savedBanner);
     }
 
@@ -275,6 +321,7 @@ public class BannerService {
         banner.updateStatus();
 
         Banner updatedBanner = bannerRepository.save(banner);
+        catalogVersions.bump(CatalogVersions.Type.BANNER);
         return convertToResponse(updatedBanner);
     }
 
@@ -285,16 +332,18 @@ public class BannerService {
                 .orElseThrow(() -> new RuntimeException("Banner not found with id: " + id));
         banner.setActive(false);
         bannerRepository.save(banner);
+        catalogVersions.bump(CatalogVersions.Type.BANNER);
     }
 
-    // Update all banner statuses (scheduled task can call this)
+    // Update active banner statuses from their dates with one UPDATE; returns the number changed.
+    // Used by the admin endpoint and the status transition scheduler.
     @Transactional
-    public void updateAllBannerStatuses() {
-        List<Banner> banners = bannerRepository.findByIsActiveTrueOrderByStartDateDesc();
-        for (Banner banner : banners) {
-            banner.updateStatus();
-            bannerRepository.save(banner);
+    public int updateAllBannerStatuses() {
+        int updated = bannerRepository.updateStatuses(vietnamNow());
+        if (updated > 0) {
+            catalogVersions.bump(CatalogVersions.Type.BANNER);
         }
+        return updated;
     }
 
     // Convert Banner entity to BannerResponse DTO
@@ -384,33 +433,12 @@ public class BannerService {
 
     // Get featured 5-star character and weapon IDs from active banners
     public FeaturedFiveStarIdsResponse getFeaturedFiveStarIds() {
-        LocalDateTime vietnamNow = ZonedDateTime.now(ZoneId.of("Asia/Ho_Chi_Minh")).toLocalDateTime();
-        List<Banner> activeBanners = bannerRepository.findCurrentlyActiveBanners(vietnamNow);
-        
-        Set<Long> characterIds = new HashSet<>();
-        Set<Long> weaponIds = new HashSet<>();
-
-        for (Banner banner : activeBanners) {
-            if (banner.getBannerType() == BannerType.CHARACTER && banner.getFeatured5StarCharacter() != null) {
-                characterIds.add(banner.getFeatured5StarCharacter().getId());
-            } else if (banner.getBannerType() == BannerType.WEAPON && banner.getFeatured5StarWeapon() != null) {
-                weaponIds.add(banner.getFeatured5StarWeapon().getId());
-            }
-        }
-
-        return new FeaturedFiveStarIdsResponse(characterIds, weaponIds);
+        return timeline().featuredIds(vietnamNow());
     }
 
     // ==================== GACHA SYSTEM ====================
-    private Random random = new Random();
-    
-    // Standard 5-star pool for all character banners (Calcharo, LingYang, Verina, Encore, Jianxin)
-    private static final List<String> STANDARD_5_STAR_NAMES = List.of(
-        "Calcharo", "Lingyang", "Verina", "Encore", "Jianxin"
-    );
-
     // Calculate 5-star rate with soft pity (Roll 60-69: +1% per roll, Roll 70-79: +10% per roll)
-    private double calculateFiveStarRate(int currentPity) {
+    static double calculateFiveStarRate(int currentPity) {
         double baseRate = 0.8;
         
         // Hard pity at 80
@@ -437,9 +465,14 @@ public class BannerService {
             throw new RuntimeException("Invalid count. Must be 1 or 10");
         }
 
-        Banner banner = bannerRepository.findById(bannerId)
+        Banner banner = bannerRepository.findByIdWithFeatured(bannerId)
             .orElseThrow(() -> new RuntimeException("Banner not found"));
 
+        // Rarity pools come from memory; the banner lookup is the only DB access per gacha call
+        GachaPoolRegistry.Pools pools = gachaPoolRegistry.getPools();
+        // Per-thread generator instead of a shared Random to avoid contention between requests
+        RandomGenerator random = ThreadLocalRandom.current();
+
         // Get pity from request (from localStorage)
         int pity5Star = request.getPity5Star();
         int pity4Star = request.getPity4Star();
@@ -453,7 +486,7 @@ public class BannerService {
             pity4Star++;
             
             // Roll single item with current pity state
-            GachaRollResult rollResult = rollSingle(banner, pity5Star, pity4Star, guaranteed5StarFeatured, guaranteed4StarFeatured);
+            GachaRollResult rollResult = rollSingle(banner, pools, random, pity5Star, pity4Star, guaranteed5StarFeatured, guaranteed4StarFeatured);
             results.add(rollResult.item);
             
             // Update pity and guarantee flags based on result
@@ -466,6 +499,83 @@ public class BannerService {
         return new GachaResultResponse(results, pity4Star, pity5Star, guaranteed5StarFeatured, guaranteed4StarFeatured);
     }
 
+    // Upper bound for a single simulation request. The endpoint is public, so keep one request
+    // to a few tens of milliseconds of CPU; larger runs add nothing the rates don't already show
+    public static final int MAX_SIMULATION_PULLS = 1_000_000;
+
+    // Simulate many pulls with the same pity rules as rollSingle, keeping only aggregated counters.
+    // Passing the same seed reproduces the same result.
+    public GachaSimulationResponse simulateGacha(Long bannerId, int pulls, Long seed) {
+        if (pulls < 1 || pulls > MAX_SIMULATION_PULLS) {
+            throw new RuntimeException("Invalid pulls. Must be between 1 and " + MAX_SIMULATION_PULLS);
+        }
+
+        BannerType bannerType = bannerRepository.findBannerTypeById(bannerId)
+            .orElseThrow(() -> new RuntimeException("Banner not found"));
+        boolean hasFiftyFifty = bannerType == BannerType.CHARACTER;
+        long actualSeed = seed != null ? seed : ThreadLocalRandom.current().nextLong();
+
+        GachaSimulator.Counters c = gachaSimulator.simulatePulls(pulls, hasFiftyFifty, actualSeed);
+
+        GachaSimulationResponse response = new GachaSimulationResponse(bannerId, bannerType.name(), c.pulls,
+            c.fiveStars, c.fourStars, c.threeStars, c.featured, c.fiftyFiftyWins, c.fiftyFiftyLosses, c.fiveStarPity);
+        response.setSeed(actualSeed);
+        return response;
+    }
+
+    // Upper bound for Monte Carlo trials of the featured-within-X question. Each trial is up to
+    // 160 pulls and the endpoint is public; 200k trials already give about three decimals, and
+    // /probability answers the same question exactly without sampling
+    public static final int MAX_SIMULATION_TRIALS = 200_000;
+
+    // Estimate the chance of getting the featured 5-star within the given number of pulls
+    public FeaturedProbabilityResponse simulateFeaturedWithin(Long bannerId, int pulls, int currentPity,
+                                                             boolean guaranteed, int trials, Long seed) {
+        if (pulls < 1) {
+            throw new RuntimeException("Invalid pulls. Must be at least 1");
+        }
+        if (currentPity < 0 || currentPity >= GachaSimulator.HARD_PITY) {
+            throw new RuntimeException("Invalid pity. Must be between 0 and " + (GachaSimulator.HARD_PITY - 1));
+        }
+        if (trials < 1 || trials > MAX_SIMULATION_TRIALS) {
+            throw new RuntimeException("Invalid trials. Must be between 1 and " + MAX_SIMULATION_TRIALS);
+        }
+
+        BannerType bannerType = bannerRepository.findBannerTypeById(bannerId)
+            .orElseThrow(() -> new RuntimeException("Banner not found"));
+        boolean hasFiftyFifty = bannerType == BannerType.CHARACTER;
+        long actualSeed = seed != null ? seed : ThreadLocalRandom.current().nextLong();
+
+        long[] histogram = gachaSimulator.simulatePullsToFeatured(trials, hasFiftyFifty, currentPity, guaranteed, actualSeed);
+
+        // Cumulative distribution: cumulative[i] = P(featured within i + 1 pulls)
+        double[] cumulative = new double[histogram.length];
+        long running = 0;
+        for (int i = 0; i < histogram.length; i++) {
+            running += histogram[i];
+            cumulative[i] = (double) running / trials;
+        }
+        double probability = pulls >= cumulative.length ? 1.0 : cumulative[pulls - 1];
+
+        FeaturedProbabilityResponse response = new FeaturedProbabilityResponse(bannerId, bannerType.name(),
+            pulls, currentPity, guaranteed, probability, cumulative, "SIMULATION");
+        response.setTrials(trials);
+        response.setSeed(actualSeed);
+        return response;
+    }
+
+    // Exact chance of getting the featured 5-star within the given number of pulls (no sampling)
+    public FeaturedProbabilityResponse getFeaturedProbability(Long bannerId, int pulls, int currentPity, boolean guaranteed) {
+        BannerType bannerType = bannerRepository.findBannerTypeById(bannerId)
+            .orElseThrow(() -> new RuntimeException("Banner not found"));
+
+        double probability = gachaProbabilityService.featuredWithin(bannerType, currentPity, guaranteed, pulls);
+        double[] cumulative = gachaProbabilityService.featuredCumulative(bannerType, currentPity, guaranteed);
+
+        return new FeaturedProbabilityResponse(bannerId, bannerType.name(),
+            pulls, currentPity, guaranteed, probability, cumulative, "EXACT");
+    }
+
     /**
      * Internal class to hold roll result with updated pity
      */
@@ -487,14 +597,14 @@ public class BannerService {
     }
 
     // Roll a single item with provided pity state
-    private GachaRollResult rollSingle(Banner banner, int pity5Star, int pity4Star, 
+    private GachaRollResult rollSingle(Banner banner, GachaPoolRegistry.Pools pools, RandomGenerator random, int pity5Star, int pity4Star, 
                                        boolean guaranteed5StarFeatured, boolean guaranteed4StarFeatured) {
         // Calculate current 5-star rate with soft pity
         double fiveStarRate = calculateFiveStarRate(pity5Star);
 
         // Check 5-star pity (guaranteed at 80)
         if (pity5Star >= 80 || random.nextDouble() * 100.0 < fiveStarRate) {
-            GachaItemResponse item = roll5Star(banner, guaranteed5StarFeatured);
+            GachaItemResponse item = roll5Star(banner, pools, random, guaranteed5StarFeatured);
             // Reset 5-star pity, update guarantee flag
             boolean isGuaranteedNext = !item.isFeatured(); // If got standard, next is guaranteed featured
             return new GachaRollResult(item, 0, pity4Star, isGuaranteedNext, guaranteed4StarFeatured);
@@ -502,32 +612,22 @@ public class BannerService {
 
         // Check 4-star pity (guaranteed at 10)
         if (pity4Star >= 10 || random.nextDouble() * 100.0 < 6.0) {
-            GachaItemResponse item = roll4Star(banner, guaranteed4StarFeatured);
+            GachaItemResponse item = roll4Star(banner, pools, random, guaranteed4StarFeatured);
             // Reset 4-star pity, update guarantee flag
             boolean isGuaranteedNext = !item.isFeatured(); // If got standard, next is guaranteed featured
             return new GachaRollResult(item, pity5Star, 0, guaranteed5StarFeatured, isGuaranteedNext);
         }
 
         // 3-star: 93.2%
-        GachaItemResponse item = roll3Star();
+        GachaItemResponse item = roll3Star(pools, random);
         // No pity reset for 3-star
         return new GachaRollResult(item, pity5Star, pity4Star, guaranteed5StarFeatured, guaranteed4StarFeatured);
     }
 
     // Roll a 5-star item (stateless)
-    private GachaItemResponse roll5Star(Banner banner, boolean isGuaranteed) {
-        Character featuredChar = null;
-        Weapon featuredWeapon = null;
-        List<Character> standardPool = new ArrayList<>();
-
+    private GachaItemResponse roll5Star(Banner banner, GachaPoolRegistry.Pools pools, RandomGenerator random, boolean isGuaranteed) {
         if (banner.getBannerType() == BannerType.CHARACTER) {
-            featuredChar = banner.getFeatured5StarCharacter();
-            
-            // Get standard 5-star characters
-            standardPool = characterRepository.findAll().stream()
-                .filter(c -> c.getRarity() == 5)
-                .filter(c -> STANDARD_5_STAR_NAMES.contains(c.getName()))
-                .collect(Collectors.toList());
+            Character featuredChar = banner.getFeatured5StarCharacter();
                 
             // Character banner: 50/50 system
             boolean isFeatured;
@@ -545,15 +645,14 @@ public class BannerService {
                 throw new RuntimeException("Featured 5-star character not found in banner");
             } else {
                 // Return standard character
-                if (!standardPool.isEmpty()) {
-                    Character standardChar = standardPool.get(random.nextInt(standardPool.size()));
-                    return createGachaItem(standardChar, false);
+                if (pools.standardFiveStarCount() > 0) {
+                    return pools.standardFiveStar(random.nextInt(pools.standardFiveStarCount())).toResponse(false);
                 }
                 throw new RuntimeException("Standard 5-star pool is empty");
             }
         } else if (banner.getBannerType() == BannerType.WEAPON) {
             // Weapon banner: 100% featured weapon (no 50/50)
-            featuredWeapon = banner.getFeatured5StarWeapon();
+            Weapon featuredWeapon = banner.getFeatured5StarWeapon();
             if (featuredWeapon != null) {
                 return createGachaItem(featuredWeapon, true);
             }
@@ -564,15 +663,9 @@ public class BannerService {
     }
 
     // Roll a 4-star item (stateless)
-    private GachaItemResponse roll4Star(Banner banner, boolean isGuaranteed) {
+    private GachaItemResponse roll4Star(Banner banner, GachaPoolRegistry.Pools pools, RandomGenerator random, boolean isGuaranteed) {
         List<Character> featuredChars = new ArrayList<>();
         List<Weapon> featuredWeapons = new ArrayList<>();
-        List<Character> allFourStarChars = characterRepository.findAll().stream()
-            .filter(c -> c.getRarity() == 4)
-            .collect(Collectors.toList());
-        List<Weapon> allFourStarWeapons = weaponRepository.findAll().stream()
-            .filter(w -> w.getRarity() == 4)
-            .collect(Collectors.toList());
 
         if (banner.getBannerType() == BannerType.CHARACTER) {
             // Get featured 4-star characters from banner
@@ -604,9 +697,8 @@ public class BannerService {
                 throw new RuntimeException("Featured 4-star characters not found in banner");
             } else {
                 // Return standard 4-star character
-                if (!allFourStarChars.isEmpty()) {
-                    Character standard = allFourStarChars.get(random.nextInt(allFourStarChars.size()));
-                    return createGachaItem(standard, false);
+                if (pools.fourStarCharacterCount() > 0) {
+                    return pools.fourStarCharacter(random.nextInt(pools.fourStarCharacterCount())).toResponse(false);
                 }
                 throw new RuntimeException("Standard 4-star character pool is empty");
             }
@@ -621,16 +713,8 @@ public class BannerService {
                 throw new RuntimeException("Featured 4-star weapons not found in banner");
             } else {
                 // Return standard 4-star (character or weapon)
-                List<Object> allItems = new ArrayList<>();
-                allItems.addAll(allFourStarChars);
-                allItems.addAll(allFourStarWeapons);
-                if (!allItems.isEmpty()) {
-                    Object item = allItems.get(random.nextInt(allItems.size()));
-                    if (item instanceof Character) {
-                        return createGachaItem((Character) item, false);
-                    } else {
-                        return createGachaItem((Weapon) item, false);
-                    }
+                if (pools.fourStarAllCount() > 0) {
+                    return pools.fourStarAll(random.nextInt(pools.fourStarAllCount())).toResponse(false);
                 }
                 throw new RuntimeException("Standard 4-star pool is empty");
             }
@@ -638,18 +722,12 @@ public class BannerService {
     }
 
     // Roll a 3-star weapon
-    private GachaItemResponse roll3Star() {
-        // Get all 3-star weapons
-        List<Weapon> threeStarWeapons = weaponRepository.findAll().stream()
-            .filter(w -> w.getRarity() == 3)
-            .collect(Collectors.toList());
-
-        if (threeStarWeapons.isEmpty()) {
+    private GachaItemResponse roll3Star(GachaPoolRegistry.Pools pools, RandomGenerator random) {
+        if (pools.threeStarWeaponCount() == 0) {
             throw new RuntimeException("No 3-star weapons available");
         }
 
-        Weapon weapon = threeStarWeapons.get(random.nextInt(threeStarWeapons.size()));
-        return createGachaItem(weapon, false);
+        return pools.threeStarWeapon(random.nextInt(pools.threeStarWeaponCount())).toResponse(false);
     }
 
     // Create GachaItemResponse from Character
@@ -0,0 +1,124 @@
+package com.alice.gametracker.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+import com.alice.gametracker.dto.BannerResponse;
+import com.alice.gametracker.dto.FeaturedFiveStarIdsResponse;
+import com.alice.gametracker.model.Banner;
+import com.alice.gametracker.model.BannerStatus;
+
+/**
+ * Active banners sorted by start and by end date, answering current / upcoming / past
+ * for any instant by binary search instead of a query per call. Immutable once built;
+ * rows are copied on the way out with the status implied by that instant.
+ */
+public class BannerTimeline {
+
+    private final String versions;
+    private final long builtAt = System.currentTimeMillis();
+    private final BannerResponse[] byStart; // startDate ascending, ties by id so paging is stable
+    private final BannerResponse[] byEnd;   // endDate ascending, ties by id
+
+    public BannerTimeline(List<BannerResponse> banners, String versions) {
+        this.versions = versions;
+        this.byStart = banners.stream()
+                .sorted(Comparator.comparing(BannerResponse::getStartDate).thenComparing(BannerResponse::getId))
+                .toArray(BannerResponse[]::new);
+        this.byEnd = banners.stream()
+                .sorted(Comparator.comparing(BannerResponse::getEndDate).thenComparing(BannerResponse::getId))
+                .toArray(BannerResponse[]::new);
+    }
+
+    // CatalogVersions tag this timeline was built from
+    public String getVersions() { return versions; }
+
+    // Epoch millis when this timeline was built
+    public long getBuiltAt() { return builtAt; }
+
+    // All active banners, latest start first
+    public List<BannerResponse> all(LocalDateTime now) {
+        List<BannerResponse> result = new ArrayList<>(byStart.length);
+        for (int i = byStart.length - 1; i >= 0; i--) {
+            BannerResponse b = byStart[i];
+            result.add(withStatus(b, Banner.statusAt(b.getStartDate(), b.getEndDate(), now)));
+        }
+        return result;
+    }
+
+    // Running at `now` (start <= now <= end), latest start first
+    public List<BannerResponse> current(LocalDateTime now) {
+        List<BannerResponse> result = new ArrayList<>();
+        for (int i = countAtOrBefore(byStart, now, BannerResponse::getStartDate) - 1; i >= 0; i--) {
+            if (!byStart[i].getEndDate().isBefore(now)) {
+                result.add(withStatus(byStart[i], BannerStatus.ACTIVE));
+            }
+        }
+        return result;
+    }
+
+    // Starting after `now`, soonest first
+    public List<BannerResponse> upcoming(LocalDateTime now) {
+        List<BannerResponse> result = new ArrayList<>();
+        for (int i = countAtOrBefore(byStart, now, BannerResponse::getStartDate); i < byStart.length; i++) {
+            result.add(withStatus(byStart[i], BannerStatus.UPCOMING));
+        }
+        return result;
+    }
+
+    // Ended before `now`, most recently ended first
+    public List<BannerResponse> past(LocalDateTime now) {
+        List<BannerResponse> result = new ArrayList<>();
+        for (int i = countBefore(byEnd, now, BannerResponse::getEndDate) - 1; i >= 0; i--) {
+            result.add(withStatus(byEnd[i], BannerStatus.ENDED));
+        }
+        return result;
+    }
+
+    // Featured five-star ids of the banners running at `now`
+    public FeaturedFiveStarIdsResponse featuredIds(LocalDateTime now) {
+        Set<Long> characterIds = new HashSet<>();
+        Set<Long> weaponIds = new HashSet<>();
+        for (int i = countAtOrBefore(byStart, now, BannerResponse::getStartDate) - 1; i >= 0; i--) {
+            BannerResponse b = byStart[i];
+            if (b.getEndDate().isBefore(now)) continue;
+            if (b.getFeatured5StarCharacterId() != null) {
+                characterIds.add(b.getFeatured5StarCharacterId());
+            } else if (b.getFeatured5StarWeaponId() != null) {
+                weaponIds.add(b.getFeatured5StarWeaponId());
+            }
+        }
+        return new FeaturedFiveStarIdsResponse(characterIds, weaponIds);
+    }
+
+    private static BannerResponse withStatus(BannerResponse banner, BannerStatus status) {
+        BannerResponse copy = new BannerResponse(banner);
+        copy.setStatus(status.name());
+        return copy;
+    }
+
+    // Number of leading rows whose key is <= now
+    private static int countAtOrBefore(BannerResponse[] rows, LocalDateTime now, Function<BannerResponse, LocalDateTime> key) {
+        int low = 0, high = rows.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (!key.apply(rows[mid]).isAfter(now)) low = mid + 1; else high = mid;
+        }
+        return low;
+    }
+
+    // Number of leading rows whose key is < now
+    private static int countBefore(BannerResponse[] rows, LocalDateTime now, Function<BannerResponse, LocalDateTime> key) {
+        int low = 0, high = rows.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (key.apply(rows[mid]).isBefore(now)) low = mid + 1; else high = mid;
+        }
+        return low;
+    }
+}
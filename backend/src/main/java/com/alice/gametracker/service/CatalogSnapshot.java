@@ -0,0 +1,81 @@
+package com.alice.gametracker.service;
+
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * In-memory snapshot of a catalog listing (immutable DTO lists), built on first read and
+ * replaced as a whole after the catalog changes. Same lifecycle as GachaPoolRegistry's pools:
+ * reads return the published snapshot without touching the database, writes invalidate it.
+ * Writes on other instances are not seen here, so a snapshot is also dropped once it is
+ * older than the max age.
+ */
+public final class CatalogSnapshot<S> {
+
+    private final Supplier<S> loader;
+    private final LongSupplier maxAgeMillis;
+    private volatile S snapshot;
+    private volatile long builtAt;
+    private volatile long version = 1;
+
+    public CatalogSnapshot(Supplier<S> loader, LongSupplier maxAgeMillis) {
+        this.loader = loader;
+        this.maxAgeMillis = maxAgeMillis;
+    }
+
+    // Current snapshot, loading it on first use (or after invalidation or expiry)
+    public S get() {
+        expireIfStale();
+        S current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (snapshot == null) {
+                snapshot = loader.get();
+                builtAt = System.currentTimeMillis();
+            }
+            return snapshot;
+        }
+    }
+
+    // Bumped every time the snapshot is invalidated or expires
+    public long getVersion() {
+        expireIfStale();
+        return version;
+    }
+
+    private void expireIfStale() {
+        if (snapshot != null && System.currentTimeMillis() - builtAt >= maxAgeMillis.getAsLong()) {
+            synchronized (this) {
+                if (snapshot != null && System.currentTimeMillis() - builtAt >= maxAgeMillis.getAsLong()) {
+                    clear();
+                }
+            }
+        }
+    }
+
+    // Drop the snapshot. Inside a transaction this is deferred until commit
+    // so a concurrent rebuild cannot pick up uncommitted rows.
+    public void invalidate() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    clear();
+                }
+            });
+        } else {
+            clear();
+        }
+    }
+
+    // Synchronized with get so an in-flight build cannot overwrite the invalidation
+    private synchronized void clear() {
+        snapshot = null;
+        version++;
+    }
+}
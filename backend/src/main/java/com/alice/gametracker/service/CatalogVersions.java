@@ -0,0 +1,70 @@
+package com.alice.gametracker.service;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Version counter per catalog type, bumped by the services after every committed write.
+ * Used to answer conditional GETs without reading the catalog.
+ * Counters are per instance, so tags include a boot id and never match across instances.
+ */
+@Component
+public class CatalogVersions {
+
+    public enum Type { CHARACTER, WEAPON, ECHO, SET_ECHO, ROLE, BANNER, EVENT }
+
+    private final String bootId = UUID.randomUUID().toString().substring(0, 8);
+    private final Map<Type, Long> versions = new EnumMap<>(Type.class);
+    private final List<Consumer<Type>> listeners = new CopyOnWriteArrayList<>();
+
+    public CatalogVersions() {
+        for (Type type : Type.values()) {
+            versions.put(type, 1L);
+        }
+    }
+
+    // Bump `type`. Inside a transaction this is deferred until commit.
+    public void bump(Type type) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    increment(type);
+                }
+            });
+        } else {
+            increment(type);
+        }
+    }
+
+    // Called with the bumped type after every (committed) bump; keep listeners cheap
+    public void addListener(Consumer<Type> listener) {
+        listeners.add(listener);
+    }
+
+    private void increment(Type type) {
+        synchronized (this) {
+            versions.merge(type, 1L, Long::sum);
+        }
+        for (Consumer<Type> listener : listeners) {
+            listener.accept(type);
+        }
+    }
+
+    // Strong ETag covering all `types`, e.g. "a1b2c3d4-CHARACTER.3-ROLE.1"
+    public synchronized String etag(Type... types) {
+        StringBuilder tag = new StringBuilder("\"").append(bootId);
+        for (Type type : types) {
+            tag.append('-').append(type.name()).append('.').append(versions.get(type));
+        }
+        return tag.append('"').toString();
+    }
+}
@@ -1,12 +1,15 @@
 package com.alice.gametracker.service;
 
+import java.util.Comparator;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.support.TransactionSynchronization;
@@ -31,6 +34,8 @@ import com.alice.gametracker.repository.CharacterRepository;
 import com.alice.gametracker.repository.RoleCharacterRepository;
 import com.alice.gametracker.repository.SkillRepository;
 import com.alice.gametracker.repository.StatsRepository;
+import com.alice.gametracker.utils.Paging;
+import com.fasterxml.jackson.databind.JsonNode;
 
 @Service
 @Transactional
@@ -52,7 +57,33 @@ public class CharacterService {
     @Autowired
     private FileStorageService fileStorageService;
 
+    @Autowired
+    private GachaPoolRegistry gachaPoolRegistry;
+
+    @Autowired
+    private CatalogVersions catalogVersions;
+
+    // Writes made on other instances show up once a snapshot is this old
+    @Value("${app.catalog.max-age-seconds:60}")
+    private long catalogMaxAgeSeconds;
+
+    // Public listings served from memory until the next catalog change (or the max age). The active
+    // listing is filtered by the database so inactive characters are never hydrated for public pages.
+    private final CatalogSnapshot<List<CharacterResponse>> catalog =
+        new CatalogSnapshot<>(() -> loadCatalog(characterRepository.findAllWithRelations(), "characters"), this::catalogMaxAgeMillis);
+    private final CatalogSnapshot<List<CharacterResponse>> activeCatalog =
+        new CatalogSnapshot<>(() -> loadCatalog(characterRepository.findActiveWithRelations(), "active characters"), this::catalogMaxAgeMillis);
+
+    // Cards are loaded by projection on their own, so the hot card listing never hydrates full entities
+    private final CatalogSnapshot<List<CharacterCardResponse>> cards =
+        new CatalogSnapshot<>(() -> List.copyOf(characterRepository.findActiveCards()), this::catalogMaxAgeMillis);
+
+    private long catalogMaxAgeMillis() {
+        return catalogMaxAgeSeconds * 1000;
+    }
+
     public Character save(Character character) {
+        invalidateCaches();
         return characterRepository.save(character);
     }
 
@@ -61,14 +92,16 @@ public class CharacterService {
     }
 
     public List<Character> findAll() {
-        return characterRepository.findAll();
+        return characterRepository.findAllWithRelations();
     }
 
     public Character update(Character character) {
+        invalidateCaches();
         return characterRepository.save(character);
     }
 
     public void deleteById(Long id) {
+        invalidateCaches();
         characterRepository.deleteById(id);
     }
 
@@ -127,6 +160,7 @@ public class CharacterService {
         );
 
         character = characterRepository.save(character);
+        invalidateCaches();
         return convertToResponse(character);
     }
 
@@ -172,6 +206,7 @@ public class CharacterService {
         character.setDescription(request.getDescription());
 
         character = characterRepository.save(character);
+        invalidateCaches();
         return convertToResponse(character);
     }
 
@@ -193,6 +228,7 @@ public class CharacterService {
         character.setImageUrl(imageUrl);
 
         character = characterRepository.save(character);
+        invalidateCaches();
         return convertToResponse(character);
     }
 
@@ -203,6 +239,7 @@ public class CharacterService {
 
         character.setActive(request.getIsActive());
         character = characterRepository.save(character);
+        invalidateCaches();
         return convertToResponse(character);
     }
 
@@ -216,6 +253,7 @@ public class CharacterService {
 
         // Delete the entity (this runs inside the current transaction)
         characterRepository.delete(character);
+        invalidateCaches();
 
         // Ensure file deletion runs only after transaction commit to avoid
         // removing files when DB delete fails. Register an after-commit callback.
@@ -249,36 +287,62 @@ public class CharacterService {
         return characterRepository.findByIdWithRelations(id).map(this::convertToResponse);
     }
 
+    // Resolve several characters from the catalog snapshot; results follow the order of `ids`
+    public List<CharacterResponse> findCharactersByIds(List<Long> ids) {
+        return Paging.pickByIds(catalog.get(), CharacterResponse::getId, ids);
+    }
+
     // Get all characters
     public List<CharacterResponse> findAllCharacters() {
-        return characterRepository.findAll().stream()
-            .map(this::convertToResponse)
-            .collect(Collectors.toList());
+        return catalog.get();
     }
 
     // Get active characters only
     public List<CharacterResponse> findActiveCharacters() {
-        return characterRepository.findAll().stream()
-            .filter(Character::isActive)
-            .map(this::convertToResponse)
-            .collect(Collectors.toList());
+        return activeCatalog.get();
     }
 
     // Get simplified character cards (only essential fields for public listing)
     public List<CharacterCardResponse> findCharacterCards() {
-        return characterRepository.findAll().stream()
-            .filter(Character::isActive)
-            .map(this::convertToCardResponse)
-            .collect(Collectors.toList());
+        return cards.get();
     }
 
-    // Find by name (case-insensitive)
+    // Version of the cached card listing, bumped on every catalog change
+    public long getCardsVersion() {
+        return cards.getVersion();
+    }
+
+    // Drop the cached listings, e.g. after a role they embed changed
+    public void invalidateCatalog() {
+        catalog.invalidate();
+        activeCatalog.invalidate();
+        cards.invalidate();
+    }
+
+    // Drop everything derived from the character catalog
+    private void invalidateCaches() {
+        gachaPoolRegistry.invalidate();
+        catalog.invalidate();
+        activeCatalog.invalidate();
+        cards.invalidate();
+        catalogVersions.bump(CatalogVersions.Type.CHARACTER);
+    }
+
+    private List<CharacterResponse> loadCatalog(List<Character> characters, String label) {
+        // Sorted by id so keyset pages can be cut from the snapshot
+        List<CharacterResponse> responses = characters.stream()
+            .map(this::convertToResponse)
+            .sorted(Comparator.comparing(CharacterResponse::getId))
+            .toList();
+        log.info("Loaded character catalog: {} {}", responses.size(), label);
+        return responses;
+    }
+
+    // Find by name (case-insensitive), resolved by an index seek on name_normalized
     public Optional<CharacterResponse> findByName(String name) {
         if (name == null || name.trim().isEmpty()) return Optional.empty();
-        return characterRepository.findAll().stream()
-            .filter(c -> c.getName() != null && c.getName().equalsIgnoreCase(name.trim()))
-            .findFirst()
-            .map(this::convertToResponse);
+        String normalized = name.trim().toLowerCase(Locale.ROOT);
+        return characterRepository.findFirstByNameNormalized(normalized).map(this::convertToResponse);
     }
 
     // Convert entity to response DTO
@@ -310,9 +374,13 @@ public class CharacterService {
             character.getStats().getCreatedDate()
         );
 
+        // Parsed once per conversion; the catalog snapshot keeps the result. The stored text is
+        // passed through raw, or null when it does not parse.
+        JsonNode skillNode = character.getSkill().getSkillNode();
         SkillResponse skillResponse = new SkillResponse(
             character.getSkill().getId(),
-            character.getSkill().getSkillNode(),
+            skillNode,
+            skillNode != null ? character.getSkill().getSkillJson() : null,
             character.getSkill().isActive(),
             character.getSkill().getCreatedDate()
         );
@@ -332,16 +400,4 @@ public class CharacterService {
             character.getCreatedDate()
         );
     }
-
-    // Convert entity to simplified card response DTO (only essential fields)
-    private CharacterCardResponse convertToCardResponse(Character character) {
-        return new CharacterCardResponse(
-            character.getId(),
-            character.getName(),
-            character.getElement().name(),
-            character.getWeaponType().name(),
-            character.getImageUrl(),
-            character.getRarity()
-        );
-    }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.alice.gametracker.service;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -8,6 +9,7 @@ import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -19,6 +21,7 @@ import com.alice.gametracker.dto.UpdateEchoRequest;
 import com.alice.gametracker.model.Echo;
 import com.alice.gametracker.model.SetEcho;
 import com.alice.gametracker.repository.EchoRepository;
+import com.alice.gametracker.utils.Paging;
 
 @Service
 @Transactional
@@ -34,7 +37,25 @@ public class EchoService {
     @Autowired
     private FileStorageService fileStorageService;
 
+    @Autowired
+    private CatalogVersions catalogVersions;
+
+    // Writes made on other instances show up once a snapshot is this old
+    @Value("${app.catalog.max-age-seconds:60}")
+    private long catalogMaxAgeSeconds;
+
+    // Public listings served from memory until the next catalog change (or the max age)
+    private final CatalogSnapshot<List<EchoResponse>> catalog =
+        new CatalogSnapshot<>(() -> loadCatalog(echoRepository.findAll(), "echoes"), this::catalogMaxAgeMillis);
+    private final CatalogSnapshot<List<EchoResponse>> activeCatalog =
+        new CatalogSnapshot<>(() -> loadCatalog(echoRepository.findByIsActiveTrue(), "active echoes"), this::catalogMaxAgeMillis);
+
+    private long catalogMaxAgeMillis() {
+        return catalogMaxAgeSeconds * 1000;
+    }
+
     public Echo save(Echo echo) {
+        invalidateCaches();
         return echoRepository.save(echo);
     }
 
@@ -47,6 +68,7 @@ public class EchoService {
     }
 
     public Echo update(Echo echo) {
+        invalidateCaches();
         return echoRepository.save(echo);
     }
 
@@ -68,6 +90,7 @@ public class EchoService {
             req.getSkill()
         );
         e.setSetEchoes(setEchoes);
+        invalidateCaches();
         return echoRepository.save(e);
     }
 
@@ -90,6 +113,7 @@ public class EchoService {
         }
         echo.setSetEchoes(setEchoes);
         
+        invalidateCaches();
         return echoRepository.save(echo);
     }
 
@@ -117,6 +141,7 @@ public class EchoService {
         }
 
         Echo saved = echoRepository.save(e);
+        invalidateCaches();
         return convertToResponse(saved);
     }
 
@@ -140,6 +165,7 @@ public class EchoService {
         echo.setSetEchoes(setEchoes);
         
         Echo updated = echoRepository.save(echo);
+        invalidateCaches();
         return convertToResponse(updated);
     }
 
@@ -152,6 +178,7 @@ public class EchoService {
         String url = fileStorageService.storeEchoImage(imageFile);
         echo.setImageUrl(url);
         Echo updated = echoRepository.save(echo);
+        invalidateCaches();
         return convertToResponse(updated);
     }
 
@@ -159,6 +186,7 @@ public class EchoService {
         Echo echo = echoRepository.findById(id).orElseThrow(() -> new RuntimeException("Echo not found"));
         echo.setActive(req.getIsActive());
         Echo updated = echoRepository.save(echo);
+        invalidateCaches();
         return convertToResponse(updated);
     }
 
@@ -168,11 +196,38 @@ public class EchoService {
             try { fileStorageService.deleteFile(echo.getImageUrl()); } catch (java.io.IOException ex) { log.warn("Failed to delete echo image: {}", ex.getMessage()); }
         }
         echoRepository.deleteById(id);
+        invalidateCaches();
     }
 
     public Optional<EchoResponse> findByIdResponse(Long id) { return echoRepository.findById(id).map(this::convertToResponse); }
-    public List<EchoResponse> findAllResponses() { return echoRepository.findAll().stream().map(this::convertToResponse).toList(); }
-    public List<EchoResponse> findActiveResponses() { return echoRepository.findAll().stream().filter(Echo::isActive).map(this::convertToResponse).toList(); }
+
+    // Resolve several echoes from the catalog snapshot; results follow the order of `ids`
+    public List<EchoResponse> findByIds(List<Long> ids) {
+        return Paging.pickByIds(catalog.get(), EchoResponse::getId, ids);
+    }
+
+    public List<EchoResponse> findAllResponses() { return catalog.get(); }
+    public List<EchoResponse> findActiveResponses() { return activeCatalog.get(); }
+
+    // Version of the cached listings, bumped on every catalog change
+    public long getCatalogVersion() { return catalog.getVersion(); }
+
+    // Drop the cached listings and bump the echo catalog version
+    private void invalidateCaches() {
+        catalog.invalidate();
+        activeCatalog.invalidate();
+        catalogVersions.bump(CatalogVersions.Type.ECHO);
+    }
+
+    private List<EchoResponse> loadCatalog(List<Echo> echoes, String label) {
+        // Sorted by id so keyset pages can be cut from the snapshot
+        List<EchoResponse> responses = echoes.stream()
+            .map(this::convertToResponse)
+            .sorted(Comparator.comparing(EchoResponse::getId))
+            .toList();
+        log.info("Loaded echo catalog: {} {}", responses.size(), label);
+        return responses;
+    }
 
     private EchoResponse convertToResponse(Echo e) {
         List<Long> setEchoIds = e.getSetEchoes().stream()
@@ -184,6 +239,7 @@ public class EchoService {
 
     public void deleteById(Long id) {
         echoRepository.deleteById(id);
+        invalidateCaches();
     }
 
     public boolean existsById(Long id) {
@@ -10,15 +10,19 @@ import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.alice.gametracker.dto.CreateEventRequest;
+import com.alice.gametracker.dto.CursorPage;
 import com.alice.gametracker.dto.EventResponse;
 import com.alice.gametracker.dto.UpdateEventRequest;
 import com.alice.gametracker.model.Event;
 import com.alice.gametracker.repository.EventRepository;
+import com.alice.gametracker.utils.Paging;
 
 @Service
 @Transactional
@@ -31,6 +35,16 @@ public class EventService {
     @Autowired
     private FileStorageService fileStorageService;
 
+    @Autowired
+    private CatalogVersions catalogVersions;
+
+    // Writes made on other instances show up once the snapshot is this old
+    @Value("${app.catalog.max-age-seconds:60}")
+    private long catalogMaxAgeSeconds;
+
+    // Active events not yet ended when it was built, see activeEvents()
+    private volatile ActiveEvents activeEvents;
+
     public EventResponse createEvent(CreateEventRequest request, MultipartFile imageFile) throws Exception {
         Event event = new Event();
         event.setTitle(request.getTitle());
@@ -55,6 +69,7 @@ public class EventService {
         }
 
         Event saved = eventRepository.save(event);
+        catalogVersions.bump(CatalogVersions.Type.EVENT);
         return convertToResponse(saved);
     }
 
@@ -91,6 +106,7 @@ public class EventService {
         }
 
         Event updated = eventRepository.save(event);
+        catalogVersions.bump(CatalogVersions.Type.EVENT);
         return convertToResponse(updated);
     }
 
@@ -118,6 +134,7 @@ public class EventService {
         }
 
         Event updated = eventRepository.save(event);
+        catalogVersions.bump(CatalogVersions.Type.EVENT);
         return convertToResponse(updated);
     }
 
@@ -134,6 +151,7 @@ public class EventService {
             }
         }
         eventRepository.deleteById(id);
+        catalogVersions.bump(CatalogVersions.Type.EVENT);
     }
 
     public Optional<EventResponse> findByIdResponse(Long id) {
@@ -147,13 +165,67 @@ public class EventService {
     /**
      * Return only events that are marked active and whose endAt is in the future (or null).
      * This implements the "currently active" definition: now < endAt (if endAt present) and isActive == true.
+     * Announced events that have not started yet are included; the calendar draws them ahead.
+     * Ending soonest first.
      */
     public List<EventResponse> findActiveResponses() {
         LocalDateTime now = ZonedDateTime.now(ZoneId.of("Asia/Ho_Chi_Minh")).toLocalDateTime();
-        return eventRepository.findByIsActive(true).stream()
-                .filter(e -> e.getEndAt() == null || now.isBefore(e.getEndAt()))
-                .map(this::convertToResponse)
-                .toList();
+        return activeEvents(now).notEnded(now);
+    }
+
+    // Active events running right now: startAt <= now < endAt (endAt may be null), ending soonest first
+    public List<EventResponse> findRunningResponses() {
+        LocalDateTime now = ZonedDateTime.now(ZoneId.of("Asia/Ho_Chi_Minh")).toLocalDateTime();
+        return activeEvents(now).runningAt(now);
+    }
+
+    // In-memory snapshot of active, not yet ended events. Ended events are pruned on read, so it
+    // is only reloaded after an event write on this instance or once it reaches the max age.
+    private ActiveEvents activeEvents(LocalDateTime now) {
+        String versions = catalogVersions.etag(CatalogVersions.Type.EVENT);
+        ActiveEvents current = activeEvents;
+        if (isFresh(current, versions)) {
+            return current;
+        }
+        synchronized (this) {
+            current = activeEvents;
+            if (!isFresh(current, versions)) {
+                List<EventResponse> rows = eventRepository.findNotEnded(now).stream()
+                        .map(this::convertToResponse)
+                        .toList();
+                current = new ActiveEvents(rows, versions);
+                activeEvents = current;
+            }
+            return current;
+        }
+    }
+
+    private boolean isFresh(ActiveEvents current, String versions) {
+        return current != null
+                && current.getVersions().equals(versions)
+                && System.currentTimeMillis() - current.getBuiltAt() < catalogMaxAgeSeconds * 1000;
+    }
+
+    // Keyset page of all events, newest first; `after` is the last id of the previous page
+    public CursorPage<EventResponse> findPage(Long after, int limit) {
+        List<Event> rows = eventRepository.findByIdLessThanOrderByIdDesc(
+                after != null ? after : Long.MAX_VALUE, PageRequest.of(0, limit + 1));
+        return Paging.fromFetched(rows.stream().map(this::convertToResponse).toList(), EventResponse::getId, limit);
+    }
+
+    // Page of findActiveResponses (ending soonest first); `after` is the last id of the previous page
+    public CursorPage<EventResponse> findActivePage(Long after, int limit) {
+        return Paging.sliceAfterId(findActiveResponses(), EventResponse::getId, after, limit);
+    }
+
+    // Deactivate every event past its end with one UPDATE; returns the number deactivated
+    public int deactivateExpiredEvents() {
+        LocalDateTime now = ZonedDateTime.now(ZoneId.of("Asia/Ho_Chi_Minh")).toLocalDateTime();
+        int deactivated = eventRepository.deactivateExpired(now);
+        if (deactivated > 0) {
+            catalogVersions.bump(CatalogVersions.Type.EVENT);
+        }
+        return deactivated;
     }
 
     public EventResponse deactivateEvent(Long id, boolean active) {
@@ -163,6 +235,7 @@ public class EventService {
         Event e = optional.get();
         e.setActive(active);
         Event updated = eventRepository.save(e);
+        catalogVersions.bump(CatalogVersions.Type.EVENT);
         return convertToResponse(updated);
     }
 
@@ -183,6 +256,7 @@ public class EventService {
 
     // Convenience
     public Event save(Event e) {
+        catalogVersions.bump(CatalogVersions.Type.EVENT);
         return eventRepository.save(e);
     }
 
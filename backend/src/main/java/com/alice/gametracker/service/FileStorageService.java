@@ -9,8 +9,11 @@ import java.nio.file.StandardCopyOption;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -1071,6 +1074,27 @@ public class FileStorageService {
         return buildBackgroundImageUrl(filename);
     }
 
+    // Element icons with their URLs - [{"filename": "fire.png", "url": "https://..."}]
+    public List<Map<String, String>> listElementIcons() {
+        return toFileEntries(listElementFiles(), this::getElementIconUrl);
+    }
+
+    // Background images with their URLs - [{"filename": "bg1.jpg", "url": "https://..."}]
+    public List<Map<String, String>> listBackgrounds() {
+        return toFileEntries(listBackgroundFiles(), this::getBackgroundImageUrl);
+    }
+
+    private List<Map<String, String>> toFileEntries(List<String> filenames, Function<String, String> toUrl) {
+        List<Map<String, String>> result = new ArrayList<>();
+        for (String filename : filenames) {
+            Map<String, String> item = new HashMap<>();
+            item.put("filename", filename);
+            item.put("url", toUrl.apply(filename));
+            result.add(item);
+        }
+        return result;
+    }
+
     // List files from S3 bucket with given prefix
     private List<String> listS3Files(String prefix) {
         List<String> files = new ArrayList<>();
@@ -0,0 +1,362 @@
+package com.alice.gametracker.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.alice.gametracker.model.GachaPullRecord;
+import com.alice.gametracker.model.GachaSyncState;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Imports gacha records from the configured GachaRecordSource and enriches them with pity
+ * counts and image URLs.
+ */
+@Service
+public class GachaHistoryService {
+    private static final Logger log = LoggerFactory.getLogger(GachaHistoryService.class);
+
+    private static final int CARD_POOL_TYPE_COUNT = GachaRecordSource.CARD_POOL_TYPE_COUNT;
+
+    // Record time format used by the upstream API
+    private static final DateTimeFormatter RECORD_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Autowired
+    private GachaRecordSource gachaRecordSource;
+
+    @Autowired
+    private UpstreamExecutor upstreamExecutor;
+
+    // Upstream params (see syncKey) -> sync currently running with exactly those params
+    private final Map<String, CompletableFuture<ObjectNode>> inFlightSyncs = new ConcurrentHashMap<>();
+
+    @Autowired
+    private WeaponService weaponService;
+
+    @Autowired
+    private CharacterService characterService;
+
+    @Autowired
+    private GachaSyncService gachaSyncService;
+
+    // Image cache: lowercase trimmed name -> imageUrl for all weapons and characters
+    public Map<String, String> buildImageCache() {
+        Map<String, String> imageCache = new ConcurrentHashMap<>();
+        weaponService.findAllResponses().forEach(w -> {
+            if (w.getName() != null && w.getImageUrl() != null) {
+                imageCache.put(w.getName().trim().toLowerCase(), w.getImageUrl());
+            }
+        });
+        characterService.findAllCharacters().forEach(c -> {
+            if (c.getName() != null && c.getImageUrl() != null) {
+                imageCache.put(c.getName().trim().toLowerCase(), c.getImageUrl());
+            }
+        });
+        return imageCache;
+    }
+
+    /**
+     * Import only the records added since the last sync of each card pool and return the
+     * player's stored 4/5-star history in the same shape as the "data" of /api/gacha/fetch.
+     * The upstream API has no paging, so each pool response is read newest first and the
+     * connection is dropped as soon as an already stored record is reached.
+     * Stored history is only returned when the upstream API accepted these params for at
+     * least one pool, so a player_id alone is not enough to read someone's history.
+     * Concurrent calls with the same upstream params wait for the running sync and share its
+     * result; a caller with another record_id never joins someone else's sync.
+     */
+    public ObjectNode syncHistory(Map<String, String> params) {
+        String playerId = params.get("player_id");
+        if (playerId == null || playerId.isEmpty()) {
+            throw new RuntimeException("player_id is required");
+        }
+
+        // Single flight: concurrent imports with the same params share one sync
+        String key = syncKey(params);
+        CompletableFuture<ObjectNode> created = new CompletableFuture<>();
+        CompletableFuture<ObjectNode> inFlight = inFlightSyncs.putIfAbsent(key, created);
+        if (inFlight == null) {
+            inFlight = created;
+            try {
+                created.complete(doSyncHistory(playerId, params));
+            } catch (Throwable e) {
+                // Any failure, Errors included, must complete the future or waiters block forever
+                created.completeExceptionally(e);
+            } finally {
+                inFlightSyncs.remove(key, created);
+            }
+        }
+
+        try {
+            return inFlight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e.getCause() instanceof RuntimeException re ? re : new RuntimeException(e.getCause());
+        }
+    }
+
+    // Every param sent upstream, so only callers presenting the same credentials share a sync
+    private static String syncKey(Map<String, String> params) {
+        return String.join("\n", String.valueOf(params.get("player_id")), String.valueOf(params.get("record_id")),
+                String.valueOf(params.get("svr_id")), String.valueOf(params.get("gacha_id")), String.valueOf(params.get("lang")));
+    }
+
+    private ObjectNode doSyncHistory(String playerId, Map<String, String> params) {
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        AtomicInteger acceptedPools = new AtomicInteger();
+        for (int poolType = 1; poolType <= CARD_POOL_TYPE_COUNT; poolType++) {
+            final int pool = poolType;
+            futures.add(upstreamExecutor.runAsync(gachaRecordSource.getHost(), () -> {
+                try {
+                    Optional<GachaSyncState> state = gachaSyncService.findState(playerId, pool);
+                    List<GachaPullRecord> newRecords = gachaRecordSource.fetchPool(params, pool,
+                            body -> readNewRecords(body, state.orElse(null)));
+                    if (newRecords != null && !newRecords.isEmpty()) {
+                        int added = gachaSyncService.appendRecords(playerId, pool, newRecords);
+                        log.debug("Imported {} new records for cardPoolType {}", added, pool);
+                    }
+                    acceptedPools.incrementAndGet();
+                } catch (Exception e) {
+                    // If a specific cardPoolType fails, its stored history is still returned
+                    // as long as another pool proves the params are valid
+                    log.warn("Failed to sync cardPoolType {}: {}", pool, e.getMessage());
+                }
+            }));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+        if (acceptedPools.get() == 0) {
+            throw new RuntimeException("Gacha record API did not accept this URL for any banner");
+        }
+        return buildStoredHistory(playerId);
+    }
+
+    // Stored 4/5-star records grouped by cardPoolType, enriched with image URLs
+    public ObjectNode buildStoredHistory(String playerId) {
+        Map<String, String> imageCache = buildImageCache();
+        ObjectNode bannerData = objectMapper.createObjectNode();
+        for (GachaPullRecord record : gachaSyncService.findRatedRecords(playerId)) {
+            String poolKey = String.valueOf(record.getCardPoolType());
+            ArrayNode items = bannerData.has(poolKey) ? (ArrayNode) bannerData.get(poolKey) : bannerData.putArray(poolKey);
+
+            ObjectNode item = items.addObject();
+            item.put("cardPoolType", record.getCardPoolName());
+            item.put("resourceId", record.getResourceId());
+            item.put("qualityLevel", record.getQualityLevel());
+            item.put("resourceType", record.getResourceType());
+            item.put("name", record.getName());
+            item.put("count", record.getCount());
+            item.put("time", record.getRecordTime().format(RECORD_TIME_FORMAT));
+            item.put("pityCount", record.getPityCount());
+            if (record.getName() != null) {
+                item.put("imageUrl", imageCache.get(record.getName().trim().toLowerCase()));
+            }
+        }
+
+        ObjectNode responseData = objectMapper.createObjectNode();
+        responseData.put("code", 0);
+        responseData.put("message", "success");
+        responseData.set("data", bannerData);
+        return responseData;
+    }
+
+    /**
+     * Collect the records at or after the newest time stored in `state`, newest first, and stop
+     * reading at the first older one. Which of them are new is decided by appendRecords under
+     * the state lock, since another import may store some of them in the meantime.
+     */
+    private List<GachaPullRecord> readNewRecords(InputStream body, GachaSyncState state) throws IOException {
+        LocalDateTime lastTime = state != null ? state.getLastRecordTime() : null;
+        List<GachaPullRecord> candidates = new ArrayList<>();
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if (!moveToDataArray(parser)) {
+                throw new IOException("Upstream response has no records");
+            }
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                GachaPullRecord record = toRecord(parser.readValueAsTree());
+                if (lastTime != null && record.getRecordTime().isBefore(lastTime)) {
+                    break; // Everything from here on is already stored
+                }
+                candidates.add(record);
+            }
+        }
+        return candidates;
+    }
+
+    // Advance the parser to the start of the top-level "data" array; false when there is none
+    // or the upstream reported an error code before it
+    private boolean moveToDataArray(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            return false;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("code".equals(field) && value == JsonToken.VALUE_NUMBER_INT && parser.getIntValue() != 0) {
+                return false;
+            }
+            if ("data".equals(field) && value == JsonToken.START_ARRAY) {
+                return true;
+            }
+            parser.skipChildren();
+        }
+        return false;
+    }
+
+    private GachaPullRecord toRecord(ObjectNode item) {
+        GachaPullRecord record = new GachaPullRecord();
+        record.setCardPoolName(item.path("cardPoolType").asText(null));
+        record.setResourceId(item.hasNonNull("resourceId") ? item.get("resourceId").asLong() : null);
+        record.setQualityLevel(item.path("qualityLevel").asInt(0));
+        record.setResourceType(item.path("resourceType").asText(null));
+        record.setName(item.path("name").asText(null));
+        record.setCount(item.path("count").asInt(1));
+        String time = item.path("time").asText(null);
+        if (time == null) {
+            throw new RuntimeException("Gacha record without time");
+        }
+        record.setRecordTime(LocalDateTime.parse(time, RECORD_TIME_FORMAT));
+        return record;
+    }
+
+    /**
+     * Stream the enriched history of all card pools to `out` in the same JSON shape as
+     * /api/gacha/fetch. Upstream responses are read token by token and only 4/5-star items
+     * whose pity is not yet known are held in memory, so memory stays bounded by one pity
+     * window regardless of history size. Pools are streamed one after another.
+     */
+    public void streamHistory(Map<String, String> params, OutputStream out) throws IOException {
+        Map<String, String> imageCache = buildImageCache();
+
+        try (JsonGenerator gen = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            gen.writeStartObject();
+            gen.writeBooleanField("success", true);
+            gen.writeStringField("message", "Gacha history fetched from all banners");
+            gen.writeObjectFieldStart("data");
+            gen.writeNumberField("code", 0);
+            gen.writeStringField("message", "success");
+            gen.writeObjectFieldStart("data");
+
+            for (int poolType = 1; poolType <= CARD_POOL_TYPE_COUNT; poolType++) {
+                final int pool = poolType;
+                try {
+                    gachaRecordSource.fetchPool(params, pool, body -> {
+                        streamPool(body, String.valueOf(pool), imageCache, gen);
+                        return null;
+                    });
+                } catch (Exception e) {
+                    // If a specific cardPoolType fails, continue with others
+                    log.warn("Failed to stream cardPoolType {}: {}", pool, e.getMessage());
+                }
+                gen.flush();
+            }
+
+            gen.writeEndObject();
+            gen.writeEndObject();
+            gen.writeEndObject();
+        }
+    }
+
+    // Read one upstream response and write its enriched "data" array as field `poolKey`
+    private void streamPool(InputStream body, String poolKey, Map<String, String> imageCache, JsonGenerator gen) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if (!moveToDataArray(parser)) {
+                return;
+            }
+            gen.writeArrayFieldStart(poolKey);
+            try {
+                streamRecords(parser, imageCache, gen);
+            } finally {
+                gen.writeEndArray();
+            }
+        }
+    }
+
+    /**
+     * Records arrive newest first, but pity counts from the older side: an item's pity is the
+     * distance to the next older item of the same rarity (or to the oldest record).
+     * Items are queued until their pity is known and written in arrival order.
+     */
+    private void streamRecords(JsonParser parser, Map<String, String> imageCache, JsonGenerator gen) throws IOException {
+        Deque<PendingItem> queue = new ArrayDeque<>();
+        PendingItem pending5Star = null;
+        PendingItem pending4Star = null;
+        int index = 0;
+
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            ObjectNode item = parser.readValueAsTree();
+            int qualityLevel = item.has("qualityLevel") ? item.get("qualityLevel").asInt() : 0;
+
+            if (qualityLevel == 5 || qualityLevel == 4) {
+                PendingItem entry = new PendingItem(item, index);
+                if (qualityLevel == 5) {
+                    if (pending5Star != null) pending5Star.pityCount = index - pending5Star.index;
+                    pending5Star = entry;
+                } else {
+                    if (pending4Star != null) pending4Star.pityCount = index - pending4Star.index;
+                    pending4Star = entry;
+                }
+                queue.addLast(entry);
+                flushResolved(queue, imageCache, gen);
+            }
+            index++;
+        }
+
+        // Oldest items count their pity up to the start of the history
+        if (pending5Star != null) pending5Star.pityCount = index - pending5Star.index;
+        if (pending4Star != null) pending4Star.pityCount = index - pending4Star.index;
+        flushResolved(queue, imageCache, gen);
+    }
+
+    private void flushResolved(Deque<PendingItem> queue, Map<String, String> imageCache, JsonGenerator gen) throws IOException {
+        while (!queue.isEmpty() && queue.peekFirst().pityCount >= 0) {
+            PendingItem entry = queue.pollFirst();
+            ObjectNode item = entry.item;
+            item.put("pityCount", entry.pityCount);
+            String name = item.has("name") ? item.get("name").asText() : null;
+            if (name != null) {
+                item.put("imageUrl", imageCache.get(name.trim().toLowerCase()));
+            }
+            gen.writeTree(item);
+        }
+    }
+
+    private static final class PendingItem {
+        final ObjectNode item;
+        final int index;
+        int pityCount = -1; // -1 until the next older item of the same rarity is seen
+
+        PendingItem(ObjectNode item, int index) {
+            this.item = item;
+            this.index = index;
+        }
+    }
+}
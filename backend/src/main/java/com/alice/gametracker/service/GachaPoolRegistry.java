@@ -0,0 +1,203 @@
+package com.alice.gametracker.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.alice.gametracker.dto.CharacterCardResponse;
+import com.alice.gametracker.dto.GachaItemResponse;
+import com.alice.gametracker.dto.WeaponCardResponse;
+import com.alice.gametracker.repository.CharacterRepository;
+import com.alice.gametracker.repository.WeaponRepository;
+
+/**
+ * Holds the rarity-bucketed item pools used by the gacha roll engine.
+ * Pools are built once from the catalog and kept in memory until
+ * CharacterService / WeaponService change the catalog and invalidate them.
+ */
+@Component
+public class GachaPoolRegistry {
+    private static final Logger log = LoggerFactory.getLogger(GachaPoolRegistry.class);
+
+    // Standard 5-star pool for all character banners (Calcharo, LingYang, Verina, Encore, Jianxin)
+    public static final List<String> STANDARD_5_STAR_NAMES = List.of(
+        "Calcharo", "Lingyang", "Verina", "Encore", "Jianxin"
+    );
+
+    @Autowired
+    private CharacterRepository characterRepository;
+
+    @Autowired
+    private WeaponRepository weaponRepository;
+
+    private volatile Pools pools;
+
+    // Get current pools, building them on first use (or after invalidation)
+    public Pools getPools() {
+        Pools current = pools;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (pools == null) {
+                pools = build();
+            }
+            return pools;
+        }
+    }
+
+    // Drop the current pools. Inside a transaction this is deferred until commit
+    // so a concurrent rebuild cannot pick up uncommitted catalog rows.
+    public void invalidate() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    clear();
+                }
+            });
+        } else {
+            clear();
+        }
+    }
+
+    // Synchronized with getPools so an in-flight build cannot overwrite the invalidation
+    private synchronized void clear() {
+        pools = null;
+    }
+
+    private Pools build() {
+        List<PoolItem> threeStarWeapons = new ArrayList<>();
+        List<PoolItem> fourStarCharacters = new ArrayList<>();
+        List<PoolItem> fourStarWeapons = new ArrayList<>();
+        List<PoolItem> standardFiveStarCharacters = new ArrayList<>();
+
+        // Only id, name, image, rarity and types are needed, so read card projections
+        for (CharacterCardResponse c : characterRepository.findPoolCards()) {
+            if (c.getRarity() == 4) {
+                fourStarCharacters.add(PoolItem.of(c));
+            } else if (c.getRarity() == 5 && STANDARD_5_STAR_NAMES.contains(c.getName())) {
+                standardFiveStarCharacters.add(PoolItem.of(c));
+            }
+        }
+        for (WeaponCardResponse w : weaponRepository.findPoolCards()) {
+            if (w.getRarity() == 3) {
+                threeStarWeapons.add(PoolItem.of(w));
+            } else if (w.getRarity() == 4) {
+                fourStarWeapons.add(PoolItem.of(w));
+            }
+        }
+
+        // Standard 4-star pool of weapon banners mixes characters and weapons
+        List<PoolItem> fourStarAll = new ArrayList<>(fourStarCharacters);
+        fourStarAll.addAll(fourStarWeapons);
+
+        log.info("Built gacha pools: {} 3-star weapons, {} 4-star characters, {} 4-star weapons, {} standard 5-star characters",
+            threeStarWeapons.size(), fourStarCharacters.size(), fourStarWeapons.size(), standardFiveStarCharacters.size());
+
+        return new Pools(
+            threeStarWeapons.toArray(new PoolItem[0]),
+            fourStarCharacters.toArray(new PoolItem[0]),
+            fourStarWeapons.toArray(new PoolItem[0]),
+            fourStarAll.toArray(new PoolItem[0]),
+            standardFiveStarCharacters.toArray(new PoolItem[0])
+        );
+    }
+
+    /**
+     * Immutable snapshot of all rarity pools. Arrays are never exposed for writing.
+     */
+    public static final class Pools {
+        private final PoolItem[] threeStarWeapons;
+        private final PoolItem[] fourStarCharacters;
+        private final PoolItem[] fourStarWeapons;
+        private final PoolItem[] fourStarAll;
+        private final PoolItem[] standardFiveStarCharacters;
+
+        Pools(PoolItem[] threeStarWeapons, PoolItem[] fourStarCharacters, PoolItem[] fourStarWeapons,
+              PoolItem[] fourStarAll, PoolItem[] standardFiveStarCharacters) {
+            this.threeStarWeapons = threeStarWeapons;
+            this.fourStarCharacters = fourStarCharacters;
+            this.fourStarWeapons = fourStarWeapons;
+            this.fourStarAll = fourStarAll;
+            this.standardFiveStarCharacters = standardFiveStarCharacters;
+        }
+
+        public int threeStarWeaponCount() { return threeStarWeapons.length; }
+        public PoolItem threeStarWeapon(int index) { return threeStarWeapons[index]; }
+
+        public int fourStarCharacterCount() { return fourStarCharacters.length; }
+        public PoolItem fourStarCharacter(int index) { return fourStarCharacters[index]; }
+
+        public int fourStarWeaponCount() { return fourStarWeapons.length; }
+        public PoolItem fourStarWeapon(int index) { return fourStarWeapons[index]; }
+
+        public int fourStarAllCount() { return fourStarAll.length; }
+        public PoolItem fourStarAll(int index) { return fourStarAll[index]; }
+
+        public int standardFiveStarCount() { return standardFiveStarCharacters.length; }
+        public PoolItem standardFiveStar(int index) { return standardFiveStarCharacters[index]; }
+    }
+
+    /**
+     * Detached, immutable view of a character or weapon with only the fields a gacha result needs.
+     */
+    public static final class PoolItem {
+        private final Long id;
+        private final String name;
+        private final String imageUrl;
+        private final int rarity;
+        private final String type;
+        private final String element;
+        private final String weaponType;
+
+        private PoolItem(Long id, String name, String imageUrl, int rarity, String type, String element, String weaponType) {
+            this.id = id;
+            this.name = name;
+            this.imageUrl = imageUrl;
+            this.rarity = rarity;
+            this.type = type;
+            this.element = element;
+            this.weaponType = weaponType;
+        }
+
+        public static PoolItem of(CharacterCardResponse character) {
+            return new PoolItem(
+                character.getId(),
+                character.getName(),
+                character.getImageUrl(),
+                character.getRarity(),
+                "CHARACTER",
+                character.getElement(),
+                character.getWeaponType()
+            );
+        }
+
+        public static PoolItem of(WeaponCardResponse weapon) {
+            return new PoolItem(
+                weapon.getId(),
+                weapon.getName(),
+                weapon.getImageUrl(),
+                weapon.getRarity(),
+                "WEAPON",
+                null,
+                weapon.getType()
+            );
+        }
+
+        public GachaItemResponse toResponse(boolean isFeatured) {
+            return new GachaItemResponse(id, name, imageUrl, rarity, type, element, weaponType, false, isFeatured);
+        }
+
+        public Long getId() { return id; }
+        public String getName() { return name; }
+        public int getRarity() { return rarity; }
+        public String getType() { return type; }
+    }
+}
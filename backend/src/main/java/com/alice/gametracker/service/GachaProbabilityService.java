@@ -0,0 +1,99 @@
+package com.alice.gametracker.service;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.springframework.stereotype.Service;
+
+import com.alice.gametracker.model.BannerType;
+
+/**
+ * Exact probabilities for "featured 5-star within N pulls", computed from the
+ * soft-pity curve in BannerService.calculateFiveStarRate with a small DP instead of sampling.
+ * Tables are built once per banner type; every query afterwards is an array lookup.
+ */
+@Service
+public class GachaProbabilityService {
+
+    private static final int HARD_PITY = GachaSimulator.HARD_PITY;
+    private static final int MAX_PULLS = GachaSimulator.MAX_PULLS_TO_FEATURED;
+
+    private final Map<BannerType, Table> tables = new EnumMap<>(BannerType.class);
+
+    public GachaProbabilityService() {
+        double[][] fiveStarCdf = fiveStarCdf();
+        for (BannerType type : BannerType.values()) {
+            tables.put(type, new Table(fiveStarCdf, type == BannerType.CHARACTER));
+        }
+    }
+
+    // P(featured 5-star within `pulls` pulls) starting at currentPity with the given guarantee flag
+    public double featuredWithin(BannerType bannerType, int currentPity, boolean guaranteed, int pulls) {
+        validate(currentPity, pulls);
+        if (pulls >= MAX_PULLS) {
+            return 1.0;
+        }
+        return tables.get(bannerType).cumulative(currentPity, guaranteed)[pulls - 1];
+    }
+
+    // Full cumulative curve: result[i] = P(featured within i + 1 pulls)
+    public double[] featuredCumulative(BannerType bannerType, int currentPity, boolean guaranteed) {
+        validate(currentPity, 1);
+        return tables.get(bannerType).cumulative(currentPity, guaranteed).clone();
+    }
+
+    private void validate(int currentPity, int pulls) {
+        if (currentPity < 0 || currentPity >= HARD_PITY) {
+            throw new RuntimeException("Invalid pity. Must be between 0 and " + (HARD_PITY - 1));
+        }
+        if (pulls < 1) {
+            throw new RuntimeException("Invalid pulls. Must be at least 1");
+        }
+    }
+
+    // cdf[p][k] = P(any 5-star within k pulls | current pity p), k = 0..HARD_PITY
+    private static double[][] fiveStarCdf() {
+        double[][] cdf = new double[HARD_PITY][HARD_PITY + 1];
+        for (int p = 0; p < HARD_PITY; p++) {
+            double survive = 1.0;
+            for (int k = 1; k <= HARD_PITY; k++) {
+                int pity = p + k;
+                double rate = pity >= HARD_PITY ? 1.0 : BannerService.calculateFiveStarRate(pity) / 100.0;
+                survive *= 1.0 - Math.min(rate, 1.0);
+                cdf[p][k] = 1.0 - survive;
+            }
+        }
+        return cdf;
+    }
+
+    /**
+     * Cumulative featured curves for one banner type, indexed by [guaranteed][pity][pulls - 1].
+     */
+    private static final class Table {
+        private final double[][][] cumulative = new double[2][HARD_PITY][MAX_PULLS];
+
+        Table(double[][] fiveStarCdf, boolean hasFiftyFifty) {
+            for (int p = 0; p < HARD_PITY; p++) {
+                for (int n = 1; n <= MAX_PULLS; n++) {
+                    double any = fiveStarCdf[p][Math.min(n, HARD_PITY)];
+                    cumulative[1][p][n - 1] = any;
+                    if (!hasFiftyFifty) {
+                        cumulative[0][p][n - 1] = any;
+                        continue;
+                    }
+                    // Lose the 50/50 on the k-th pull, then need a guaranteed 5-star from pity 0 in n - k pulls
+                    double afterLoss = 0.0;
+                    for (int k = 1; k < n && k <= HARD_PITY; k++) {
+                        double hitAtK = fiveStarCdf[p][k] - fiveStarCdf[p][k - 1];
+                        afterLoss += hitAtK * fiveStarCdf[0][Math.min(n - k, HARD_PITY)];
+                    }
+                    cumulative[0][p][n - 1] = 0.5 * any + 0.5 * afterLoss;
+                }
+            }
+        }
+
+        double[] cumulative(int pity, boolean guaranteed) {
+            return cumulative[guaranteed ? 1 : 0][pity];
+        }
+    }
+}
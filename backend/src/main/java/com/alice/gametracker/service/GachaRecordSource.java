@@ -0,0 +1,30 @@
+package com.alice.gametracker.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+
+/**
+ * Where gacha records are imported from. Selected by the app.gacha.source property:
+ * - "http": the game's record API (default)
+ * - "synthetic": generated or file-backed histories for offline throughput tests
+ */
+public interface GachaRecordSource {
+
+    int CARD_POOL_TYPE_COUNT = 9;
+
+    /**
+     * Fetch the records of one card pool and hand the response body to `reader`.
+     * The body has the upstream shape {"code":0,"message":"success","data":[...]} with
+     * records newest first; the stream is only valid while `reader` runs.
+     */
+    <T> T fetchPool(Map<String, String> params, int cardPoolType, ResponseReader<T> reader) throws IOException;
+
+    // Key used to limit concurrent calls against the same backend
+    String getHost();
+
+    @FunctionalInterface
+    interface ResponseReader<T> {
+        T read(InputStream body) throws IOException;
+    }
+}
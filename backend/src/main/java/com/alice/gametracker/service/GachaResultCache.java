@@ -0,0 +1,108 @@
+package com.alice.gametracker.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Latest gacha import result per player for /api/gacha/latest polling.
+ * Bounded by size (least recently used entry is evicted first) and by TTL.
+ * An entry is only handed back to a caller that presents the record_id it was imported with,
+ * since the player id alone is public.
+ */
+@Component
+public class GachaResultCache {
+
+    private final int maxSize;
+    private final long ttlMillis;
+
+    // Access-ordered so the eldest entry is the least recently used one
+    private final LinkedHashMap<String, Entry> entries;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long expirations;
+
+    public GachaResultCache(@Value("${app.gacha.cache.max-size:1000}") int maxSize,
+                            @Value("${app.gacha.cache.ttl-seconds:900}") long ttlSeconds) {
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() > GachaResultCache.this.maxSize) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public synchronized void put(String playerId, String recordId, ObjectNode data) {
+        entries.put(playerId, new Entry(data, recordId, System.currentTimeMillis()));
+    }
+
+    // Cached result for the player, or null if absent, expired or imported with another record_id
+    public synchronized Entry get(String playerId, String recordId) {
+        Entry entry = entries.get(playerId);
+        if (entry == null || !entry.matches(recordId)) {
+            misses++;
+            return null;
+        }
+        if (System.currentTimeMillis() - entry.getFetchTime() > ttlMillis) {
+            entries.remove(playerId);
+            expirations++;
+            misses++;
+            return null;
+        }
+        hits++;
+        return entry;
+    }
+
+    public synchronized void invalidate(String playerId) {
+        entries.remove(playerId);
+    }
+
+    public synchronized Map<String, Object> getStats() {
+        long requests = hits + misses;
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("size", entries.size());
+        stats.put("maxSize", maxSize);
+        stats.put("ttlSeconds", ttlMillis / 1000);
+        stats.put("hits", hits);
+        stats.put("misses", misses);
+        stats.put("hitRate", requests > 0 ? (double) hits / requests : 0.0);
+        stats.put("evictions", evictions);
+        stats.put("expirations", expirations);
+        return stats;
+    }
+
+    public static final class Entry {
+        private final ObjectNode data;
+        private final byte[] recordId;
+        private final long fetchTime;
+
+        Entry(ObjectNode data, String recordId, long fetchTime) {
+            this.data = data;
+            this.recordId = recordId != null ? recordId.getBytes(StandardCharsets.UTF_8) : new byte[0];
+            this.fetchTime = fetchTime;
+        }
+
+        // Constant-time comparison so the record_id cannot be guessed byte by byte
+        boolean matches(String candidate) {
+            return candidate != null && recordId.length > 0
+                    && MessageDigest.isEqual(recordId, candidate.getBytes(StandardCharsets.UTF_8));
+        }
+
+        public ObjectNode getData() { return data; }
+        public long getFetchTime() { return fetchTime; }
+    }
+}
@@ -0,0 +1,203 @@
+package com.alice.gametracker.service;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Monte Carlo engine for large gacha simulations.
+ * Work is split across a dedicated ForkJoinPool; every task owns a SplittableRandom
+ * derived from the root seed by position in the task tree, so results are
+ * deterministic for a given seed regardless of thread scheduling.
+ */
+@Component
+public class GachaSimulator {
+
+    // Leaf size for pull chains / trials; large enough that fork overhead is negligible
+    private static final long PULLS_PER_TASK = 250_000;
+    private static final long TRIALS_PER_TASK = 5_000;
+
+    // Hard pity for 5-star, so a featured 5-star needs at most 2 * HARD_PITY pulls
+    public static final int HARD_PITY = 80;
+    public static final int MAX_PULLS_TO_FEATURED = HARD_PITY * 2;
+
+    // 5-star rate (percent) indexed by pity 1..80, same curve as BannerService.calculateFiveStarRate
+    private static final double[] FIVE_STAR_RATES = new double[HARD_PITY + 1];
+    static {
+        for (int p = 1; p <= HARD_PITY; p++) {
+            FIVE_STAR_RATES[p] = BannerService.calculateFiveStarRate(p);
+        }
+    }
+
+    private final ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    /**
+     * Aggregated counters of a simulation. Histograms are merged element-wise.
+     */
+    public static final class Counters {
+        public long pulls;
+        public long fiveStars;
+        public long fourStars;
+        public long threeStars;
+        public long featured;
+        public long fiftyFiftyWins;
+        public long fiftyFiftyLosses;
+        // fiveStarPity[i] = 5-stars obtained at pity i + 1
+        public final long[] fiveStarPity = new long[HARD_PITY];
+
+        void merge(Counters other) {
+            pulls += other.pulls;
+            fiveStars += other.fiveStars;
+            fourStars += other.fourStars;
+            threeStars += other.threeStars;
+            featured += other.featured;
+            fiftyFiftyWins += other.fiftyFiftyWins;
+            fiftyFiftyLosses += other.fiftyFiftyLosses;
+            for (int i = 0; i < fiveStarPity.length; i++) {
+                fiveStarPity[i] += other.fiveStarPity[i];
+            }
+        }
+    }
+
+    // Simulate a long pull run. The run is cut into independent chains of PULLS_PER_TASK pulls,
+    // each starting from pity 0 (like separate accounts), which keeps leaves independent.
+    public Counters simulatePulls(long pulls, boolean hasFiftyFifty, long seed) {
+        return pool.invoke(new PullTask(pulls, hasFiftyFifty, new SplittableRandom(seed)));
+    }
+
+    /**
+     * Simulate independent players starting at the given pity/guarantee and record how many
+     * pulls each needed for the featured 5-star. Returns counts indexed by pulls - 1
+     * (length MAX_PULLS_TO_FEATURED).
+     */
+    public long[] simulatePullsToFeatured(long trials, boolean hasFiftyFifty, int startPity,
+                                          boolean guaranteed, long seed) {
+        return pool.invoke(new FeaturedTask(trials, hasFiftyFifty, startPity, guaranteed, new SplittableRandom(seed)));
+    }
+
+    // Single chain of pulls with the same pity rules as BannerService.rollSingle
+    static void runChain(SplittableRandom rng, long pulls, boolean hasFiftyFifty, Counters c) {
+        int pity5Star = 0;
+        int pity4Star = 0;
+        boolean guaranteed5StarFeatured = false;
+
+        for (long i = 0; i < pulls; i++) {
+            pity5Star++;
+            pity4Star++;
+
+            if (pity5Star >= HARD_PITY || rng.nextDouble() * 100.0 < FIVE_STAR_RATES[pity5Star]) {
+                c.fiveStars++;
+                c.fiveStarPity[pity5Star - 1]++;
+                boolean isFeatured;
+                if (!hasFiftyFifty || guaranteed5StarFeatured) {
+                    isFeatured = true;
+                } else {
+                    isFeatured = rng.nextDouble() < 0.5;
+                    if (isFeatured) c.fiftyFiftyWins++; else c.fiftyFiftyLosses++;
+                }
+                if (isFeatured) c.featured++;
+                guaranteed5StarFeatured = !isFeatured;
+                pity5Star = 0;
+            } else if (pity4Star >= 10 || rng.nextDouble() * 100.0 < 6.0) {
+                c.fourStars++;
+                pity4Star = 0;
+            } else {
+                c.threeStars++;
+            }
+        }
+        c.pulls += pulls;
+    }
+
+    // Pulls needed from (startPity, guaranteed) until the featured 5-star drops
+    static int pullsToFeatured(SplittableRandom rng, boolean hasFiftyFifty, int startPity, boolean guaranteed) {
+        int pity = startPity;
+        int pulls = 0;
+        while (true) {
+            pity++;
+            pulls++;
+            if (pity >= HARD_PITY || rng.nextDouble() * 100.0 < FIVE_STAR_RATES[pity]) {
+                if (!hasFiftyFifty || guaranteed || rng.nextDouble() < 0.5) {
+                    return pulls;
+                }
+                guaranteed = true;
+                pity = 0;
+            }
+        }
+    }
+
+    private static final class PullTask extends RecursiveTask<Counters> {
+        private final long pulls;
+        private final boolean hasFiftyFifty;
+        private final SplittableRandom rng;
+
+        PullTask(long pulls, boolean hasFiftyFifty, SplittableRandom rng) {
+            this.pulls = pulls;
+            this.hasFiftyFifty = hasFiftyFifty;
+            this.rng = rng;
+        }
+
+        @Override
+        protected Counters compute() {
+            if (pulls <= PULLS_PER_TASK) {
+                Counters c = new Counters();
+                runChain(rng, pulls, hasFiftyFifty, c);
+                return c;
+            }
+            // Split on a PULLS_PER_TASK boundary so chain lengths do not depend on the tree shape
+            long chunks = (pulls + PULLS_PER_TASK - 1) / PULLS_PER_TASK;
+            long leftPulls = (chunks / 2) * PULLS_PER_TASK;
+            PullTask left = new PullTask(leftPulls, hasFiftyFifty, rng.split());
+            PullTask right = new PullTask(pulls - leftPulls, hasFiftyFifty, rng);
+            left.fork();
+            Counters result = right.compute();
+            result.merge(left.join());
+            return result;
+        }
+    }
+
+    private static final class FeaturedTask extends RecursiveTask<long[]> {
+        private final long trials;
+        private final boolean hasFiftyFifty;
+        private final int startPity;
+        private final boolean guaranteed;
+        private final SplittableRandom rng;
+
+        FeaturedTask(long trials, boolean hasFiftyFifty, int startPity, boolean guaranteed, SplittableRandom rng) {
+            this.trials = trials;
+            this.hasFiftyFifty = hasFiftyFifty;
+            this.startPity = startPity;
+            this.guaranteed = guaranteed;
+            this.rng = rng;
+        }
+
+        @Override
+        protected long[] compute() {
+            if (trials <= TRIALS_PER_TASK) {
+                long[] histogram = new long[MAX_PULLS_TO_FEATURED];
+                for (long i = 0; i < trials; i++) {
+                    histogram[pullsToFeatured(rng, hasFiftyFifty, startPity, guaranteed) - 1]++;
+                }
+                return histogram;
+            }
+            long leftTrials = trials / 2;
+            FeaturedTask left = new FeaturedTask(leftTrials, hasFiftyFifty, startPity, guaranteed, rng.split());
+            FeaturedTask right = new FeaturedTask(trials - leftTrials, hasFiftyFifty, startPity, guaranteed, rng);
+            left.fork();
+            long[] result = right.compute();
+            long[] other = left.join();
+            for (int i = 0; i < result.length; i++) {
+                result[i] += other[i];
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.alice.gametracker.service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.alice.gametracker.model.GachaPullRecord;
+import com.alice.gametracker.model.GachaSyncState;
+import com.alice.gametracker.repository.GachaPullRecordRepository;
+import com.alice.gametracker.repository.GachaSyncStateRepository;
+
+/**
+ * Persisted gacha history. New records are appended per (player, card pool) on top of the
+ * stored sync state, so pity is only computed for the records that were not imported before.
+ */
+@Service
+@Transactional
+public class GachaSyncService {
+
+    @Autowired
+    private GachaPullRecordRepository gachaPullRecordRepository;
+
+    @Autowired
+    private GachaSyncStateRepository gachaSyncStateRepository;
+
+    @Transactional(readOnly = true)
+    public Optional<GachaSyncState> findState(String playerId, int cardPoolType) {
+        return gachaSyncStateRepository.findByPlayerIdAndCardPoolType(playerId, cardPoolType);
+    }
+
+    /**
+     * Append the records of `candidates` (upstream order, newest first) that are not stored yet.
+     * Imports of the same (player, pool) can overlap, e.g. with another record_id or lang, so
+     * the state is read under a lock and the new tail is cut again against it: `candidates`
+     * must hold every record at or after the newest stored time the caller last saw.
+     * Returns the number of records appended.
+     */
+    public int appendRecords(String playerId, int cardPoolType, List<GachaPullRecord> candidates) {
+        if (candidates.isEmpty()) {
+            return 0;
+        }
+        GachaSyncState state = gachaSyncStateRepository.findForUpdate(playerId, cardPoolType)
+                .orElseGet(() -> new GachaSyncState(playerId, cardPoolType));
+        List<GachaPullRecord> newestFirst = unseen(candidates, state);
+        if (newestFirst.isEmpty()) {
+            return 0;
+        }
+
+        long seq = state.getLastSeq();
+        int fiveStarPity = state.getFiveStarPity();
+        int fourStarPity = state.getFourStarPity();
+        LocalDateTime now = ZonedDateTime.now(ZoneId.of("Asia/Ho_Chi_Minh")).toLocalDateTime();
+
+        // Continue the pity counters from the stored state, oldest new record first
+        List<GachaPullRecord> oldestFirst = new ArrayList<>(newestFirst.size());
+        for (int i = newestFirst.size() - 1; i >= 0; i--) {
+            GachaPullRecord record = newestFirst.get(i);
+            record.setPlayerId(playerId);
+            record.setCardPoolType(cardPoolType);
+            record.setSeq(++seq);
+            record.setCreatedDate(now);
+
+            fiveStarPity++;
+            fourStarPity++;
+            if (record.getQualityLevel() == 5) {
+                record.setPityCount(fiveStarPity);
+                fiveStarPity = 0;
+            } else if (record.getQualityLevel() == 4) {
+                record.setPityCount(fourStarPity);
+                fourStarPity = 0;
+            } else {
+                record.setPityCount(0);
+            }
+            oldestFirst.add(record);
+        }
+        gachaPullRecordRepository.saveAll(oldestFirst);
+
+        LocalDateTime newestTime = newestFirst.get(0).getRecordTime();
+        int newestTimeCount = 0;
+        for (GachaPullRecord record : newestFirst) {
+            if (!record.getRecordTime().equals(newestTime)) break;
+            newestTimeCount++;
+        }
+        if (newestTime.equals(state.getLastRecordTime())) {
+            newestTimeCount += state.getLastRecordTimeCount();
+        }
+
+        state.setLastRecordTime(newestTime);
+        state.setLastRecordTimeCount(newestTimeCount);
+        state.setLastSeq(seq);
+        state.setFiveStarPity(fiveStarPity);
+        state.setFourStarPity(fourStarPity);
+        state.setLastSyncedAt(now);
+        gachaSyncStateRepository.save(state);
+        return oldestFirst.size();
+    }
+
+    /**
+     * Records of `newestFirst` newer than `state`. Several records of one multi-pull share a
+     * timestamp, so records at the stored newest time only count as new beyond the number
+     * already stored for that time.
+     */
+    static List<GachaPullRecord> unseen(List<GachaPullRecord> newestFirst, GachaSyncState state) {
+        LocalDateTime lastTime = state.getLastRecordTime();
+        if (lastTime == null) {
+            return newestFirst;
+        }
+        int newer = 0;
+        while (newer < newestFirst.size() && newestFirst.get(newer).getRecordTime().isAfter(lastTime)) {
+            newer++;
+        }
+        int atLastTime = 0;
+        while (newer + atLastTime < newestFirst.size()
+                && newestFirst.get(newer + atLastTime).getRecordTime().equals(lastTime)) {
+            atLastTime++;
+        }
+        int unseenAtLastTime = Math.max(0, atLastTime - state.getLastRecordTimeCount());
+        return newestFirst.subList(0, newer + unseenAtLastTime);
+    }
+
+    // Stored 4/5-star records of a player, newest first within each pool
+    @Transactional(readOnly = true)
+    public List<GachaPullRecord> findRatedRecords(String playerId) {
+        return gachaPullRecordRepository.findByPlayerIdAndQualityLevelGreaterThanEqualOrderByCardPoolTypeAscSeqDesc(playerId, 4);
+    }
+}
@@ -0,0 +1,142 @@
+package com.alice.gametracker.service;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.alice.gametracker.dto.BannerResponse;
+import com.alice.gametracker.dto.CharacterCardResponse;
+import com.alice.gametracker.dto.EventResponse;
+import com.alice.gametracker.dto.FeaturedFiveStarIdsResponse;
+import com.alice.gametracker.dto.HomeBundleResponse;
+import com.alice.gametracker.dto.WeaponCardResponse;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Builds the landing page bundle, fetching each part on its own virtual thread.
+ * The result is reused for app.home.bundle.ttl-seconds, or until a catalog write
+ * on this instance changes the banner, event, character or weapon versions.
+ */
+@Service
+public class HomeBundleService {
+    private static final Logger log = LoggerFactory.getLogger(HomeBundleService.class);
+
+    private static final CatalogVersions.Type[] SOURCES = {
+        CatalogVersions.Type.BANNER, CatalogVersions.Type.EVENT,
+        CatalogVersions.Type.CHARACTER, CatalogVersions.Type.WEAPON
+    };
+
+    @Autowired
+    private BannerService bannerService;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private CharacterService characterService;
+
+    @Autowired
+    private WeaponService weaponService;
+
+    @Autowired
+    private FileStorageService fileStorageService;
+
+    @Autowired
+    private CatalogVersions catalogVersions;
+
+    @Value("${app.home.bundle.ttl-seconds:30}")
+    private long ttlSeconds;
+
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("home-bundle-", 0).factory());
+
+    private volatile Cached cached;
+
+    public HomeBundleResponse getBundle() {
+        String versions = catalogVersions.etag(SOURCES);
+        Cached current = cached;
+        if (isFresh(current, versions)) {
+            return current.bundle;
+        }
+        synchronized (this) {
+            // Another request may have rebuilt it while we waited
+            current = cached;
+            if (isFresh(current, versions)) {
+                return current.bundle;
+            }
+            HomeBundleResponse bundle = build();
+            cached = new Cached(bundle, versions, System.currentTimeMillis());
+            return bundle;
+        }
+    }
+
+    private boolean isFresh(Cached entry, String versions) {
+        return entry != null
+                && entry.versions.equals(versions)
+                && System.currentTimeMillis() - entry.builtAt < ttlSeconds * 1000;
+    }
+
+    private HomeBundleResponse build() {
+        long start = System.currentTimeMillis();
+        CompletableFuture<List<BannerResponse>> currentBanners = fetch(bannerService::getCurrentBanners);
+        CompletableFuture<List<BannerResponse>> upcomingBanners = fetch(bannerService::getUpcomingBanners);
+        CompletableFuture<FeaturedFiveStarIdsResponse> featuredIds = fetch(bannerService::getFeaturedFiveStarIds);
+        CompletableFuture<List<EventResponse>> activeEvents = fetch(eventService::findActiveResponses);
+        CompletableFuture<List<CharacterCardResponse>> characterCards = fetch(characterService::findCharacterCards);
+        CompletableFuture<List<WeaponCardResponse>> weaponCards = fetch(weaponService::findWeaponCards);
+        CompletableFuture<List<Map<String, String>>> elementIcons = fetch(fileStorageService::listElementIcons);
+        CompletableFuture<List<Map<String, String>>> backgrounds = fetch(fileStorageService::listBackgrounds);
+
+        try {
+            HomeBundleResponse bundle = new HomeBundleResponse();
+            bundle.setCurrentBanners(currentBanners.join());
+            bundle.setUpcomingBanners(upcomingBanners.join());
+            bundle.setFeaturedIds(featuredIds.join());
+            bundle.setActiveEvents(activeEvents.join());
+            bundle.setCharacterCards(characterCards.join());
+            bundle.setWeaponCards(weaponCards.join());
+            bundle.setElementIcons(elementIcons.join());
+            bundle.setBackgrounds(backgrounds.join());
+            bundle.setGeneratedAt(ZonedDateTime.now(ZoneId.of("Asia/Ho_Chi_Minh")).toLocalDateTime());
+            log.debug("Built home bundle in {} ms", System.currentTimeMillis() - start);
+            return bundle;
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            throw new RuntimeException("Failed to build home bundle: " + cause.getMessage(), cause);
+        }
+    }
+
+    private <T> CompletableFuture<T> fetch(Supplier<T> part) {
+        return CompletableFuture.supplyAsync(part, executor);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private static final class Cached {
+        final HomeBundleResponse bundle;
+        final String versions;
+        final long builtAt;
+
+        Cached(HomeBundleResponse bundle, String versions, long builtAt) {
+            this.bundle = bundle;
+            this.versions = versions;
+            this.builtAt = builtAt;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.alice.gametracker.service;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+// Reads records from the game's gacha record API
+@Component
+@ConditionalOnProperty(name = "app.gacha.source", havingValue = "http", matchIfMissing = true)
+public class HttpGachaRecordSource implements GachaRecordSource {
+
+    public static final String UPSTREAM_URL = "https://gmserver-api.aki-game2.net/gacha/record/query";
+    private static final String UPSTREAM_HOST = URI.create(UPSTREAM_URL).getHost();
+
+    @Autowired
+    @Qualifier("upstreamRestTemplate")
+    private RestTemplate restTemplate;
+
+    @Override
+    public <T> T fetchPool(Map<String, String> params, int cardPoolType, ResponseReader<T> reader) throws IOException {
+        HttpEntity<Map<String, Object>> entity = new HttpEntity<>(buildBody(params, cardPoolType), buildHeaders());
+        return restTemplate.execute(UPSTREAM_URL, HttpMethod.POST, restTemplate.httpEntityCallback(entity),
+                response -> reader.read(response.getBody()));
+    }
+
+    @Override
+    public String getHost() {
+        return UPSTREAM_HOST;
+    }
+
+    // Set headers (from successful Postman test)
+    private HttpHeaders buildHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.set("User-Agent", "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/140.0.0.0 Safari/537.36");
+        headers.set("Referer", "https://aki-gm-resources-oversea.aki-game.net/");
+        headers.set("Origin", "https://aki-gm-resources-oversea.aki-game.net");
+        headers.set("Accept", "application/json, text/plain, */*");
+        headers.set("Accept-Language", "en");
+        headers.set("sec-ch-ua", "\"Chromium\";v=\"140\", \"Not=A?Brand\";v=\"24\", \"Google Chrome\";v=\"140\"");
+        headers.set("sec-ch-ua-mobile", "?0");
+        headers.set("sec-ch-ua-platform", "\"Windows\"");
+        headers.set("sec-fetch-dest", "empty");
+        headers.set("sec-fetch-mode", "cors");
+        headers.set("sec-fetch-site", "cross-site");
+        return headers;
+    }
+
+    // Build request body for one cardPoolType
+    private Map<String, Object> buildBody(Map<String, String> params, int poolType) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("playerId", params.get("player_id"));
+        body.put("cardPoolId", params.get("gacha_id"));
+        body.put("cardPoolType", poolType);
+        body.put("languageCode", params.get("lang"));
+        body.put("recordId", params.get("record_id"));
+        body.put("serverId", params.get("svr_id"));
+        return body;
+    }
+}
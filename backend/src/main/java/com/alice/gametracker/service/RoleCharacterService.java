@@ -32,6 +32,13 @@ public class RoleCharacterService {
     @Autowired
     private FileStorageService fileStorageService;
 
+    // Character responses embed their roles
+    @Autowired
+    private CharacterService characterService;
+
+    @Autowired
+    private CatalogVersions catalogVersions;
+
     // Create new role
     public RoleResponse createRole(CreateRoleRequest request, MultipartFile iconFile) throws Exception {
         RoleCharacter role = new RoleCharacter();
@@ -45,6 +52,7 @@ public class RoleCharacterService {
         }
         
         RoleCharacter savedRole = roleCharacterRepository.save(role);
+        catalogVersions.bump(CatalogVersions.Type.ROLE);
         return convertToResponse(savedRole);
     }
 
@@ -60,6 +68,8 @@ public class RoleCharacterService {
         role.setDescription(request.getDescription());
 
         RoleCharacter updatedRole = roleCharacterRepository.save(role);
+        characterService.invalidateCatalog();
+        catalogVersions.bump(CatalogVersions.Type.ROLE);
         return convertToResponse(updatedRole);
     }
 
@@ -90,6 +100,8 @@ public class RoleCharacterService {
         role.setIcon(iconUrl);
 
         RoleCharacter updatedRole = roleCharacterRepository.save(role);
+        characterService.invalidateCatalog();
+        catalogVersions.bump(CatalogVersions.Type.ROLE);
         return convertToResponse(updatedRole);
     }
 
@@ -104,6 +116,8 @@ public class RoleCharacterService {
         role.setActive(request.getIsActive());
         
         RoleCharacter updatedRole = roleCharacterRepository.save(role);
+        characterService.invalidateCatalog();
+        catalogVersions.bump(CatalogVersions.Type.ROLE);
         return convertToResponse(updatedRole);
     }
 
@@ -127,6 +141,7 @@ public class RoleCharacterService {
         }
         
         roleCharacterRepository.deleteById(id);
+        catalogVersions.bump(CatalogVersions.Type.ROLE);
     }
 
     // Get role by ID
@@ -166,6 +181,8 @@ public class RoleCharacterService {
 
     // Legacy methods for backward compatibility
     public RoleCharacter save(RoleCharacter roleCharacter) {
+        characterService.invalidateCatalog();
+        catalogVersions.bump(CatalogVersions.Type.ROLE);
         return roleCharacterRepository.save(roleCharacter);
     }
 
@@ -178,10 +195,13 @@ public class RoleCharacterService {
     }
 
     public RoleCharacter update(RoleCharacter roleCharacter) {
+        characterService.invalidateCatalog();
+        catalogVersions.bump(CatalogVersions.Type.ROLE);
         return roleCharacterRepository.save(roleCharacter);
     }
 
     public void deleteById(Long id) {
+        catalogVersions.bump(CatalogVersions.Type.ROLE);
         roleCharacterRepository.deleteById(id);
     }
 
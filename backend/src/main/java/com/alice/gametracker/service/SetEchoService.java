@@ -28,6 +28,9 @@ public class SetEchoService {
     @Autowired
     private FileStorageService fileStorageService;
 
+    @Autowired
+    private CatalogVersions catalogVersions;
+
     public SetEchoResponse createSetEcho(CreateSetEchoRequest request, MultipartFile iconFile) throws Exception {
         SetEcho s = new SetEcho(request.getName(), request.getSkill(), request.getIcon());
 
@@ -37,6 +40,7 @@ public class SetEchoService {
         }
 
         SetEcho saved = setEchoRepository.save(s);
+        catalogVersions.bump(CatalogVersions.Type.SET_ECHO);
         return convertToResponse(saved);
     }
 
@@ -50,6 +54,7 @@ public class SetEchoService {
         if (request.getIcon() != null) s.setIcon(request.getIcon());
 
         SetEcho updated = setEchoRepository.save(s);
+        catalogVersions.bump(CatalogVersions.Type.SET_ECHO);
         return convertToResponse(updated);
     }
 
@@ -68,6 +73,7 @@ public class SetEchoService {
         String iconUrl = fileStorageService.storeSetEchoIcon(iconFile);
         s.setIcon(iconUrl);
         SetEcho updated = setEchoRepository.save(s);
+        catalogVersions.bump(CatalogVersions.Type.SET_ECHO);
         return convertToResponse(updated);
     }
 
@@ -78,6 +84,7 @@ public class SetEchoService {
         SetEcho s = opt.get();
         s.setActive(request.getIsActive());
         SetEcho updated = setEchoRepository.save(s);
+        catalogVersions.bump(CatalogVersions.Type.SET_ECHO);
         return convertToResponse(updated);
     }
 
@@ -91,6 +98,7 @@ public class SetEchoService {
         }
 
         setEchoRepository.deleteById(id);
+        catalogVersions.bump(CatalogVersions.Type.SET_ECHO);
     }
 
     public Optional<SetEchoResponse> findByIdResponse(Long id) { return setEchoRepository.findById(id).map(this::convertToResponse); }
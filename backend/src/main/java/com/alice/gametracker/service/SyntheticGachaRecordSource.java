@@ -0,0 +1,123 @@
+package com.alice.gametracker.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Offline record source for load tests. If app.gacha.synthetic.file is set, that file (an
+ * upstream-shaped JSON response, "{pool}" is replaced with the card pool type) is served.
+ * Otherwise a history of app.gacha.synthetic.records-per-pool records is generated with the
+ * same soft-pity rates as the banner simulator. Output is deterministic per player and pool,
+ * so repeated imports find nothing new. Every call waits app.gacha.synthetic.latency-ms first.
+ */
+@Component
+@ConditionalOnProperty(name = "app.gacha.source", havingValue = "synthetic")
+public class SyntheticGachaRecordSource implements GachaRecordSource {
+
+    private static final DateTimeFormatter RECORD_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final LocalDateTime NEWEST_RECORD_TIME = LocalDateTime.of(2025, 1, 1, 0, 0, 0);
+    private static final int PULLS_PER_MULTI = 10;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Value("${app.gacha.synthetic.records-per-pool:1000}")
+    private int recordsPerPool;
+
+    @Value("${app.gacha.synthetic.latency-ms:0}")
+    private long latencyMs;
+
+    @Value("${app.gacha.synthetic.file:}")
+    private String file;
+
+    @Override
+    public <T> T fetchPool(Map<String, String> params, int cardPoolType, ResponseReader<T> reader) throws IOException {
+        if (latencyMs > 0) {
+            try {
+                Thread.sleep(latencyMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted", e);
+            }
+        }
+
+        if (file != null && !file.isEmpty()) {
+            Path path = Path.of(file.replace("{pool}", String.valueOf(cardPoolType)));
+            if (Files.exists(path)) {
+                try (InputStream body = Files.newInputStream(path)) {
+                    return reader.read(body);
+                }
+            }
+            return reader.read(new ByteArrayInputStream("{\"code\":0,\"message\":\"success\",\"data\":[]}".getBytes()));
+        }
+
+        long seed = ((long) String.valueOf(params.get("player_id")).hashCode() << 32) | cardPoolType;
+        return reader.read(new ByteArrayInputStream(generate(cardPoolType, new SplittableRandom(seed))));
+    }
+
+    @Override
+    public String getHost() {
+        return "synthetic";
+    }
+
+    private byte[] generate(int cardPoolType, SplittableRandom random) throws IOException {
+        // Roll oldest first so pity builds up as in the game
+        int[] quality = new int[recordsPerPool];
+        int fiveStarPity = 0;
+        int fourStarPity = 0;
+        for (int i = 0; i < recordsPerPool; i++) {
+            fiveStarPity++;
+            fourStarPity++;
+            double fiveStarRate = fiveStarPity >= GachaSimulator.HARD_PITY ? 1.0 : BannerService.calculateFiveStarRate(fiveStarPity) / 100.0;
+            if (random.nextDouble() < fiveStarRate) {
+                quality[i] = 5;
+                fiveStarPity = 0;
+            } else if (fourStarPity >= 10 || random.nextDouble() < 0.06) {
+                quality[i] = 4;
+                fourStarPity = 0;
+            } else {
+                quality[i] = 3;
+            }
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(recordsPerPool * 160);
+        try (JsonGenerator gen = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            gen.writeStartObject();
+            gen.writeNumberField("code", 0);
+            gen.writeStringField("message", "success");
+            gen.writeArrayFieldStart("data");
+            // Newest first; each group of ten pulls shares a timestamp like a multi-pull
+            for (int i = recordsPerPool - 1; i >= 0; i--) {
+                int age = (recordsPerPool - 1 - i) / PULLS_PER_MULTI;
+                boolean weapon = cardPoolType == 2 || cardPoolType == 4 || quality[i] == 3;
+                gen.writeStartObject();
+                gen.writeStringField("cardPoolType", "Synthetic Pool " + cardPoolType);
+                gen.writeNumberField("resourceId", quality[i] * 1000 + (i % 7));
+                gen.writeNumberField("qualityLevel", quality[i]);
+                gen.writeStringField("resourceType", weapon ? "Weapon" : "Resonator");
+                gen.writeStringField("name", "Synthetic " + quality[i] + "-Star " + (weapon ? "Weapon " : "Resonator ") + (i % 7));
+                gen.writeNumberField("count", 1);
+                gen.writeStringField("time", NEWEST_RECORD_TIME.minusMinutes(age).format(RECORD_TIME_FORMAT));
+                gen.writeEndObject();
+            }
+            gen.writeEndArray();
+            gen.writeEndObject();
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,53 @@
+package com.alice.gametracker.service;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Runs blocking upstream calls on virtual threads, off the common ForkJoinPool.
+ * Calls to the same host are limited to app.upstream.max-concurrency-per-host at a time,
+ * so several users importing at once queue up instead of flooding the remote server.
+ */
+@Component
+public class UpstreamExecutor {
+
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("upstream-", 0).factory());
+    private final Map<String, Semaphore> hostLimits = new ConcurrentHashMap<>();
+    private final int maxConcurrencyPerHost;
+
+    public UpstreamExecutor(@Value("${app.upstream.max-concurrency-per-host:16}") int maxConcurrencyPerHost) {
+        this.maxConcurrencyPerHost = maxConcurrencyPerHost;
+    }
+
+    public CompletableFuture<Void> runAsync(String host, Runnable task) {
+        Semaphore limit = hostLimits.computeIfAbsent(host, h -> new Semaphore(maxConcurrencyPerHost, true));
+        return CompletableFuture.runAsync(() -> {
+            try {
+                limit.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted while waiting for " + host, e);
+            }
+            try {
+                task.run();
+            } finally {
+                limit.release();
+            }
+        }, executor);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
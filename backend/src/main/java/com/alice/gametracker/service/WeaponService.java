@@ -1,11 +1,14 @@
 package com.alice.gametracker.service;
 
+import java.util.Comparator;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -19,6 +22,7 @@ import com.alice.gametracker.model.SubStatsType;
 import com.alice.gametracker.model.Weapon;
 import com.alice.gametracker.model.WeaponType;
 import com.alice.gametracker.repository.WeaponRepository;
+import com.alice.gametracker.utils.Paging;
 
 @Service
 @Transactional
@@ -31,6 +35,30 @@ public class WeaponService {
     @Autowired
     private FileStorageService fileStorageService;
 
+    @Autowired
+    private GachaPoolRegistry gachaPoolRegistry;
+
+    @Autowired
+    private CatalogVersions catalogVersions;
+
+    // Writes made on other instances show up once a snapshot is this old
+    @Value("${app.catalog.max-age-seconds:60}")
+    private long catalogMaxAgeSeconds;
+
+    // Public listings served from memory until the next catalog change (or the max age)
+    private final CatalogSnapshot<List<WeaponResponse>> catalog =
+        new CatalogSnapshot<>(() -> loadCatalog(weaponRepository.findAll(), "weapons"), this::catalogMaxAgeMillis);
+    private final CatalogSnapshot<List<WeaponResponse>> activeCatalog =
+        new CatalogSnapshot<>(() -> loadCatalog(weaponRepository.findByIsActiveTrue(), "active weapons"), this::catalogMaxAgeMillis);
+
+    // Cards are loaded by projection on their own, so the hot card listing never hydrates full entities
+    private final CatalogSnapshot<List<WeaponCardResponse>> cards =
+        new CatalogSnapshot<>(() -> List.copyOf(weaponRepository.findActiveCards()), this::catalogMaxAgeMillis);
+
+    private long catalogMaxAgeMillis() {
+        return catalogMaxAgeSeconds * 1000;
+    }
+
     // Create new weapon (service accepts optional imageFile)
     public WeaponResponse createWeapon(CreateWeaponRequest request, MultipartFile imageFile) throws Exception {
         Weapon weapon = new Weapon(
@@ -51,6 +79,7 @@ public class WeaponService {
         }
 
         Weapon saved = weaponRepository.save(weapon);
+        invalidateCaches();
         return convertToResponse(saved);
     }
 
@@ -70,6 +99,7 @@ public class WeaponService {
     if (request.getRarity() != null) weapon.setRarity(request.getRarity());
 
         Weapon updated = weaponRepository.save(weapon);
+        invalidateCaches();
         return convertToResponse(updated);
     }
 
@@ -90,6 +120,7 @@ public class WeaponService {
         String imageUrl = fileStorageService.storeWeaponImage(imageFile);
         weapon.setImageUrl(imageUrl);
         Weapon updated = weaponRepository.save(weapon);
+        invalidateCaches();
         return convertToResponse(updated);
     }
 
@@ -101,6 +132,7 @@ public class WeaponService {
         Weapon weapon = optional.get();
         weapon.setActive(request.getIsActive());
         Weapon updated = weaponRepository.save(weapon);
+        invalidateCaches();
         return convertToResponse(updated);
     }
 
@@ -117,6 +149,7 @@ public class WeaponService {
         }
 
         weaponRepository.deleteById(id);
+        invalidateCaches();
     }
 
     // Getters / listings
@@ -124,34 +157,39 @@ public class WeaponService {
         return weaponRepository.findById(id).map(this::convertToResponse);
     }
 
+    // Resolve several weapons from the catalog snapshot; results follow the order of `ids`
+    public List<WeaponResponse> findByIds(List<Long> ids) {
+        return Paging.pickByIds(catalog.get(), WeaponResponse::getId, ids);
+    }
+
     public Optional<Weapon> findById(Long id) { return weaponRepository.findById(id); }
 
     public List<Weapon> findAll() { return weaponRepository.findAll(); }
 
     // Return DTO list similar to other services
     public List<WeaponResponse> findAllResponses() {
-        return weaponRepository.findAll().stream().map(this::convertToResponse).toList();
+        return catalog.get();
     }
 
     public List<WeaponResponse> findActiveWeapons() {
-        return weaponRepository.findAll().stream().filter(Weapon::isActive).map(this::convertToResponse).toList();
+        return activeCatalog.get();
     }
 
     // Get simplified weapon cards (only essential fields for public listing)
     public List<WeaponCardResponse> findWeaponCards() {
-        return weaponRepository.findAll().stream()
-            .filter(Weapon::isActive)
-            .map(this::convertToCardResponse)
-            .toList();
+        return cards.get();
+    }
+
+    // Version of the cached card listing, bumped on every catalog change
+    public long getCardsVersion() {
+        return cards.getVersion();
     }
 
-    // Find by name (case-insensitive)
+    // Find by name (case-insensitive), resolved by an index seek on name_normalized
     public Optional<WeaponResponse> findByName(String name) {
         if (name == null || name.trim().isEmpty()) return Optional.empty();
-        return weaponRepository.findAll().stream()
-            .filter(w -> w.getName() != null && w.getName().equalsIgnoreCase(name.trim()))
-            .findFirst()
-            .map(this::convertToResponse);
+        String normalized = name.trim().toLowerCase(Locale.ROOT);
+        return weaponRepository.findFirstByNameNormalized(normalized).map(this::convertToResponse);
     }
 
     // Convert to DTO
@@ -172,19 +210,27 @@ public class WeaponService {
         );
     }
 
-    // Convert entity to simplified card response DTO (only essential fields)
-    private WeaponCardResponse convertToCardResponse(Weapon weapon) {
-        return new WeaponCardResponse(
-            weapon.getId(),
-            weapon.getName(),
-            weapon.getWeaponType() != null ? weapon.getWeaponType().name() : null,
-            weapon.getImageUrl(),
-            weapon.getRarity()
-        );
+    // Drop everything derived from the weapon catalog
+    private void invalidateCaches() {
+        gachaPoolRegistry.invalidate();
+        catalog.invalidate();
+        activeCatalog.invalidate();
+        cards.invalidate();
+        catalogVersions.bump(CatalogVersions.Type.WEAPON);
+    }
+
+    private List<WeaponResponse> loadCatalog(List<Weapon> weapons, String label) {
+        // Sorted by id so keyset pages can be cut from the snapshot
+        List<WeaponResponse> responses = weapons.stream()
+            .map(this::convertToResponse)
+            .sorted(Comparator.comparing(WeaponResponse::getId))
+            .toList();
+        log.info("Loaded weapon catalog: {} {}", responses.size(), label);
+        return responses;
     }
 
     // Legacy helpers
-    public Weapon save(Weapon w) { return weaponRepository.save(w); }
-    public void deleteById(Long id) { weaponRepository.deleteById(id); }
+    public Weapon save(Weapon w) { invalidateCaches(); return weaponRepository.save(w); }
+    public void deleteById(Long id) { invalidateCaches(); weaponRepository.deleteById(id); }
     public boolean existsById(Long id) { return weaponRepository.existsById(id); }
 }
@@ -0,0 +1,26 @@
+package com.alice.gametracker.utils;
+
+// Helpers for conditional GET (If-None-Match)
+public final class ConditionalRequests {
+
+    private ConditionalRequests() {}
+
+    // True if an If-None-Match header value matches `etag` (weak comparison, as RFC 9110 requires for GET)
+    public static boolean matchesETag(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || etag == null) {
+            return false;
+        }
+        String target = stripWeak(etag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || stripWeak(tag).equals(target)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String stripWeak(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+}
@@ -0,0 +1,141 @@
+package com.alice.gametracker.utils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Already-encoded JSON bodies (plain and gzip) for hot public listings, re-encoded only
+ * when the catalog version changes. The strong ETag is a hash of the JSON bytes, so every
+ * instance serving the same catalog returns the same tag; the gzip body gets its own
+ * "-gzip" tag since strong validators must differ per representation.
+ */
+@Component
+public class EncodedResponseCache {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${app.http.gzip-cached-responses:true}")
+    private boolean gzipEnabled;
+
+    private final Map<String, Encoded> entries = new ConcurrentHashMap<>();
+
+    // Serve the cached body for `key`, re-encoding `body` if `version` moved on
+    public ResponseEntity<byte[]> respond(String key, long version, Supplier<?> body, HttpServletRequest request) {
+        Encoded encoded = entries.get(key);
+        if (encoded == null || encoded.version != version) {
+            encoded = encode(version, body.get());
+            entries.put(key, encoded);
+        }
+
+        boolean gzip = encoded.gzip != null && acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        String etag = gzip ? encoded.gzipEtag : encoded.etag;
+
+        if (ConditionalRequests.matchesETag(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(CacheControl.noCache())
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+
+        // no-cache (not the Spring Security default no-store) so browsers keep the body and revalidate
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(encoded.gzip);
+        }
+        return response.body(encoded.json);
+    }
+
+    // True if Accept-Encoding allows gzip: listed (or covered by "*") with a non-zero q
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double gzipQ = null;
+        Double anyQ = null;
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.split(";");
+            String coding = parts[0].trim().toLowerCase();
+            double q = 1.0;
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim();
+                if (param.startsWith("q=") || param.startsWith("Q=")) {
+                    try {
+                        q = Double.parseDouble(param.substring(2).trim());
+                    } catch (NumberFormatException e) {
+                        q = 0; // Unreadable weight: don't guess that gzip is wanted
+                    }
+                }
+            }
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                gzipQ = gzipQ == null ? q : Math.max(gzipQ, q);
+            } else if (coding.equals("*")) {
+                anyQ = q;
+            }
+        }
+        if (gzipQ != null) {
+            return gzipQ > 0;
+        }
+        return anyQ != null && anyQ > 0;
+    }
+
+    private Encoded encode(long version, Object body) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(body);
+            byte[] gzip = null;
+            if (gzipEnabled) {
+                ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4 + 64);
+                try (GZIPOutputStream gz = new GZIPOutputStream(out)) {
+                    gz.write(json);
+                }
+                gzip = out.toByteArray();
+            }
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+            String etag = "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+            return new Encoded(version, json, gzip, etag);
+        } catch (IOException | NoSuchAlgorithmException e) {
+            throw new RuntimeException("Failed to encode response: " + e.getMessage(), e);
+        }
+    }
+
+    private static final class Encoded {
+        final long version;
+        final byte[] json;
+        final byte[] gzip;
+        final String etag;
+        final String gzipEtag;
+
+        Encoded(long version, byte[] json, byte[] gzip, String etag) {
+            this.version = version;
+            this.json = json;
+            this.gzip = gzip;
+            this.etag = etag;
+            this.gzipEtag = etag.substring(0, etag.length() - 1) + "-gzip\"";
+        }
+    }
+}
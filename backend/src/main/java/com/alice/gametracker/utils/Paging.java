@@ -0,0 +1,100 @@
+package com.alice.gametracker.utils;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+import com.alice.gametracker.dto.CursorPage;
+
+/**
+ * Keyset paging helpers shared by the list endpoints. Cursors are entity ids, so a page
+ * stays stable while rows are inserted or deleted elsewhere in the listing.
+ * Listings kept in memory in a non-id order (banner and event timelines) are paged with
+ * sliceAfterId, where the cursor is the id of the last item of the previous page.
+ */
+public final class Paging {
+
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 100;
+
+    private Paging() {}
+
+    // True when the caller asked for a page rather than the whole listing
+    public static boolean requested(Long after, Integer limit) {
+        return after != null || limit != null;
+    }
+
+    public static int limit(Integer requested) {
+        if (requested == null || requested <= 0) return DEFAULT_LIMIT;
+        return Math.min(requested, MAX_LIMIT);
+    }
+
+    // Page of `items` (sorted by ascending id) holding the ids after `after`
+    public static <T> CursorPage<T> sliceAscending(List<T> items, Function<T, Long> id, Long after, int limit) {
+        int from = after != null ? countAtOrBelow(items, id, after) : 0;
+        int to = Math.min(items.size(), from + limit);
+        List<T> page = items.subList(from, to);
+        Long next = to < items.size() && !page.isEmpty() ? id.apply(page.get(page.size() - 1)) : null;
+        return new CursorPage<>(page, next);
+    }
+
+    // Page of `ordered` (any order) holding the items after the one with id `after`, so the
+    // pages walk the listing in the same order as the unpaged endpoint. A cursor that is no
+    // longer in the listing (deleted, deactivated or ended since) yields an empty last page.
+    public static <T> CursorPage<T> sliceAfterId(List<T> ordered, Function<T, Long> id, Long after, int limit) {
+        int from = 0;
+        if (after != null) {
+            from = -1;
+            for (int i = 0; i < ordered.size(); i++) {
+                if (after.equals(id.apply(ordered.get(i)))) {
+                    from = i + 1;
+                    break;
+                }
+            }
+            if (from < 0) {
+                return new CursorPage<>(List.of(), null);
+            }
+        }
+        int to = Math.min(ordered.size(), from + limit);
+        List<T> page = ordered.subList(from, to);
+        Long next = to < ordered.size() && !page.isEmpty() ? id.apply(page.get(page.size() - 1)) : null;
+        return new CursorPage<>(page, next);
+    }
+
+    // Items of `items` (sorted by ascending id) with the given ids, in request order;
+    // duplicates, nulls and unknown ids are skipped
+    public static <T> List<T> pickByIds(List<T> items, Function<T, Long> id, List<Long> ids) {
+        if (ids == null) return List.of();
+        Set<Long> wanted = new LinkedHashSet<>(ids);
+        wanted.remove(null);
+        List<T> picked = new ArrayList<>(wanted.size());
+        for (Long wantedId : wanted) {
+            int index = countAtOrBelow(items, id, wantedId) - 1;
+            if (index >= 0 && id.apply(items.get(index)).equals(wantedId)) {
+                picked.add(items.get(index));
+            }
+        }
+        return picked;
+    }
+
+    // Number of leading items whose id is <= `bound`
+    private static <T> int countAtOrBelow(List<T> items, Function<T, Long> id, long bound) {
+        int low = 0, high = items.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (id.apply(items.get(mid)) <= bound) low = mid + 1; else high = mid;
+        }
+        return low;
+    }
+
+    // Page from a query that fetched up to limit + 1 rows; the extra row only signals more
+    public static <T> CursorPage<T> fromFetched(List<T> fetched, Function<T, Long> id, int limit) {
+        if (fetched.size() <= limit) {
+            return new CursorPage<>(fetched, null);
+        }
+        List<T> page = fetched.subList(0, limit);
+        return new CursorPage<>(page, id.apply(page.get(limit - 1)));
+    }
+}
@@ -0,0 +1,60 @@
+package com.alice.gametracker.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.alice.gametracker.dto.CursorPage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Trims list responses to the properties named in a "fields" request parameter
+ * (e.g. fields=id,name,imageUrl), so clients can skip large members such as skill JSON.
+ */
+@Component
+public class SparseFields {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    // The whole listing, or a keyset page of it when after/limit were given, trimmed to `fields`
+    public <T> Object render(List<T> sortedById, Function<T, Long> id, Long after, Integer limit, String fields) {
+        if (Paging.requested(after, limit)) {
+            return select(Paging.sliceAscending(sortedById, id, after, Paging.limit(limit)), fields);
+        }
+        return select(sortedById, fields);
+    }
+
+    // `items` unchanged when no fields were requested, otherwise one trimmed object per item
+    public List<?> select(List<?> items, String fields) {
+        Set<String> keep = parse(fields);
+        if (keep.isEmpty()) return items;
+        List<ObjectNode> trimmed = new ArrayList<>(items.size());
+        for (Object item : items) {
+            ObjectNode node = objectMapper.valueToTree(item);
+            node.retain(keep);
+            trimmed.add(node);
+        }
+        return trimmed;
+    }
+
+    public CursorPage<?> select(CursorPage<?> page, String fields) {
+        if (parse(fields).isEmpty()) return page;
+        return new CursorPage<>(List.<Object>copyOf(select(page.getItems(), fields)), page.getNextCursor());
+    }
+
+    private Set<String> parse(String fields) {
+        if (fields == null || fields.isBlank()) return Set.of();
+        return Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(f -> !f.isEmpty())
+                .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,43 @@
+-- Persisted gacha history and per-pool sync state (GachaPullRecord, GachaSyncState).
+-- Prod runs with ddl-auto=none; apply before deploying the incremental gacha import.
+-- SQL Server. Safe to re-run.
+
+IF OBJECT_ID('gacha_pull_records', 'U') IS NULL
+CREATE TABLE gacha_pull_records (
+    id BIGINT IDENTITY(1,1) NOT NULL PRIMARY KEY,
+    player_id VARCHAR(50) NOT NULL,
+    card_pool_type INT NOT NULL,
+    card_pool_name VARCHAR(100) NULL,
+    seq BIGINT NOT NULL,
+    record_time DATETIME2 NOT NULL,
+    name VARCHAR(100) NULL,
+    resource_id BIGINT NULL,
+    resource_type VARCHAR(50) NULL,
+    quality_level INT NOT NULL,
+    count INT NOT NULL,
+    pity_count INT NOT NULL,
+    created_date DATETIME2 NOT NULL,
+    CONSTRAINT uk_gacha_pull_player_pool_seq UNIQUE (player_id, card_pool_type, seq)
+);
+GO
+
+IF NOT EXISTS (SELECT 1 FROM sys.indexes WHERE name = 'ix_gacha_pull_player_pool_quality')
+CREATE INDEX ix_gacha_pull_player_pool_quality
+    ON gacha_pull_records (player_id, card_pool_type, quality_level);
+GO
+
+-- The unique key is also what the import's UPDLOCK + HOLDLOCK state lookup locks on
+IF OBJECT_ID('gacha_sync_states', 'U') IS NULL
+CREATE TABLE gacha_sync_states (
+    id BIGINT IDENTITY(1,1) NOT NULL PRIMARY KEY,
+    player_id VARCHAR(50) NOT NULL,
+    card_pool_type INT NOT NULL,
+    last_record_time DATETIME2 NULL,
+    last_record_time_count INT NOT NULL,
+    last_seq BIGINT NOT NULL,
+    five_star_pity INT NOT NULL,
+    four_star_pity INT NOT NULL,
+    last_synced_at DATETIME2 NULL,
+    CONSTRAINT uk_gacha_sync_player_pool UNIQUE (player_id, card_pool_type)
+);
+GO
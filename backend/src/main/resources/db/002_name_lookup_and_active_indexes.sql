@@ -0,0 +1,31 @@
+-- Normalized name columns for indexed name lookups, and is_active indexes for the active
+-- listings. Character/Weapon findByName seek on name_normalized only, so the backfill is
+-- required: without it name lookups of existing rows return nothing.
+-- SQL Server. Safe to re-run.
+
+IF COL_LENGTH('characters', 'name_normalized') IS NULL
+ALTER TABLE characters ADD name_normalized NVARCHAR(255) NULL;
+GO
+
+IF COL_LENGTH('weapons', 'name_normalized') IS NULL
+ALTER TABLE weapons ADD name_normalized NVARCHAR(100) NULL;
+GO
+
+-- Same normalization as the entities' @PrePersist/@PreUpdate: trimmed, lowercase
+UPDATE characters SET name_normalized = LOWER(LTRIM(RTRIM(name)))
+    WHERE name_normalized IS NULL AND name IS NOT NULL;
+UPDATE weapons SET name_normalized = LOWER(LTRIM(RTRIM(name)))
+    WHERE name_normalized IS NULL AND name IS NOT NULL;
+GO
+
+IF NOT EXISTS (SELECT 1 FROM sys.indexes WHERE name = 'ix_characters_name_normalized')
+CREATE INDEX ix_characters_name_normalized ON characters (name_normalized);
+IF NOT EXISTS (SELECT 1 FROM sys.indexes WHERE name = 'ix_weapons_name_normalized')
+CREATE INDEX ix_weapons_name_normalized ON weapons (name_normalized);
+IF NOT EXISTS (SELECT 1 FROM sys.indexes WHERE name = 'ix_characters_is_active')
+CREATE INDEX ix_characters_is_active ON characters (is_active);
+IF NOT EXISTS (SELECT 1 FROM sys.indexes WHERE name = 'ix_weapons_is_active')
+CREATE INDEX ix_weapons_is_active ON weapons (is_active);
+IF NOT EXISTS (SELECT 1 FROM sys.indexes WHERE name = 'ix_echoes_is_active')
+CREATE INDEX ix_echoes_is_active ON echoes (is_active);
+GO
@@ -0,0 +1,6 @@
+-- Index behind EventRepository.findActiveAt and the active events keyset page.
+-- SQL Server. Safe to re-run.
+
+IF NOT EXISTS (SELECT 1 FROM sys.indexes WHERE name = 'ix_events_active_end_start')
+CREATE INDEX ix_events_active_end_start ON events (is_active, end_at, start_at);
+GO
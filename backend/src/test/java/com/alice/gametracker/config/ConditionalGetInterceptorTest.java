@@ -0,0 +1,88 @@
+package com.alice.gametracker.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.alice.gametracker.service.CatalogVersions;
+import com.alice.gametracker.service.CatalogVersions.Type;
+
+class ConditionalGetInterceptorTest {
+
+    private final CatalogVersions catalogVersions = new CatalogVersions();
+    private final ConditionalGetInterceptor interceptor = new ConditionalGetInterceptor();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(interceptor, "catalogVersions", catalogVersions);
+        // Long buckets so the tag cannot roll over mid-test
+        ReflectionTestUtils.setField(interceptor, "timeSensitiveSeconds", 3600L);
+        ReflectionTestUtils.setField(interceptor, "catalogMaxAgeSeconds", 3600L);
+    }
+
+    @Test
+    void matchingETagGives304WithoutCallingTheController() {
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        assertTrue(interceptor.preHandle(get("/api/weapons", null), first, new Object()));
+        String etag = first.getHeader(HttpHeaders.ETAG);
+        assertNotNull(etag);
+        assertEquals("no-cache", first.getHeader(HttpHeaders.CACHE_CONTROL));
+        assertNull(first.getHeader(HttpHeaders.LAST_MODIFIED));
+
+        MockHttpServletResponse second = new MockHttpServletResponse();
+        assertFalse(interceptor.preHandle(get("/api/weapons/12", etag), second, new Object()));
+        assertEquals(304, second.getStatus());
+        assertNull(second.getHeader(HttpHeaders.LAST_MODIFIED));
+    }
+
+    @Test
+    void bumpOfACoveredCatalogInvalidatesTheTag() {
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        interceptor.preHandle(get("/api/characters", null), first, new Object());
+        String etag = first.getHeader(HttpHeaders.ETAG);
+
+        // Characters embed roles, so a role write must change the character tag
+        catalogVersions.bump(Type.ROLE);
+
+        MockHttpServletResponse second = new MockHttpServletResponse();
+        assertTrue(interceptor.preHandle(get("/api/characters", etag), second, new Object()));
+        assertEquals(200, second.getStatus());
+
+        // Unrelated catalogs keep their tag
+        MockHttpServletResponse weapons = new MockHttpServletResponse();
+        interceptor.preHandle(get("/api/weapons", null), weapons, new Object());
+        catalogVersions.bump(Type.ECHO);
+        MockHttpServletResponse again = new MockHttpServletResponse();
+        assertFalse(interceptor.preHandle(get("/api/weapons", weapons.getHeader(HttpHeaders.ETAG)), again, new Object()));
+    }
+
+    @Test
+    void otherRequestsPassThrough() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        assertTrue(interceptor.preHandle(get("/api/gacha/latest", "\"x\""), response, new Object()));
+        assertNull(response.getHeader(HttpHeaders.ETAG));
+
+        MockHttpServletRequest post = new MockHttpServletRequest("POST", "/api/weapons");
+        assertTrue(interceptor.preHandle(post, new MockHttpServletResponse(), new Object()));
+
+        // Prefix match is per path segment
+        MockHttpServletResponse lookalike = new MockHttpServletResponse();
+        assertTrue(interceptor.preHandle(get("/api/weaponsets", null), lookalike, new Object()));
+        assertNull(lookalike.getHeader(HttpHeaders.ETAG));
+    }
+
+    private static MockHttpServletRequest get(String uri, String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        if (ifNoneMatch != null) request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        return request;
+    }
+}
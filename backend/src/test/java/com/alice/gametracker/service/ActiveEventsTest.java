@@ -0,0 +1,57 @@
+package com.alice.gametracker.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.alice.gametracker.dto.EventResponse;
+
+class ActiveEventsTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 5, 1, 12, 0);
+
+    private final ActiveEvents events = new ActiveEvents(List.of(
+            event(1L, null, null),                              // open-ended, no start
+            event(2L, NOW.minusDays(10), NOW.minusDays(1)),     // ended
+            event(3L, NOW.minusDays(10), NOW),                  // ends exactly now
+            event(4L, NOW.minusDays(2), NOW.plusSeconds(1)),    // ends just after
+            event(5L, NOW.plusDays(1), NOW.plusDays(5)),        // announced, not started
+            event(6L, NOW.minusDays(3), null),                  // open-ended, running
+            event(7L, NOW, NOW.plusDays(5))), "v1");            // starts exactly now
+
+    @Test
+    void notEndedPrunesEventsEndingAtOrBeforeNow() {
+        assertEquals(List.of(4L, 5L, 7L, 1L, 6L), ids(events.notEnded(NOW)));
+    }
+
+    @Test
+    void notEndedKeepsOpenEndedEventsLast() {
+        assertEquals(List.of(1L, 6L), ids(events.notEnded(NOW.plusYears(1))));
+        assertEquals(7, events.notEnded(NOW.minusYears(1)).size());
+    }
+
+    @Test
+    void runningAtExcludesEventsNotStartedYet() {
+        assertEquals(List.of(4L, 7L, 1L, 6L), ids(events.runningAt(NOW)));
+        assertTrue(events.runningAt(NOW.plusDays(2)).stream().anyMatch(e -> e.getId() == 5L));
+    }
+
+    @Test
+    void emptySnapshot() {
+        ActiveEvents empty = new ActiveEvents(List.of(), "v1");
+        assertTrue(empty.notEnded(NOW).isEmpty());
+        assertTrue(empty.runningAt(NOW).isEmpty());
+    }
+
+    private static List<Long> ids(List<EventResponse> events) {
+        return events.stream().map(EventResponse::getId).toList();
+    }
+
+    private static EventResponse event(Long id, LocalDateTime start, LocalDateTime end) {
+        return new EventResponse(id, "Event " + id, null, start, end, null, null, null, null, true, NOW.minusDays(30));
+    }
+}
@@ -0,0 +1,85 @@
+package com.alice.gametracker.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import com.alice.gametracker.dto.BannerResponse;
+import com.alice.gametracker.dto.FeaturedFiveStarIdsResponse;
+
+class BannerTimelineTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 5, 1, 12, 0);
+
+    private final BannerTimeline timeline = new BannerTimeline(List.of(
+            banner(1L, NOW.minusDays(30), NOW.minusDays(10), 101L, null),   // past
+            banner(2L, NOW.minusDays(20), NOW.minusSeconds(1), 102L, null), // just ended
+            banner(3L, NOW.minusDays(5), NOW, null, 203L),                  // ends exactly now
+            banner(4L, NOW, NOW.plusDays(20), 104L, null),                  // starts exactly now
+            banner(5L, NOW.plusSeconds(1), NOW.plusDays(21), 105L, null),   // starts just after
+            banner(6L, NOW.plusDays(10), NOW.plusDays(30), 106L, null)), "v1");
+
+    @Test
+    void currentIncludesBothBoundaries() {
+        List<BannerResponse> current = timeline.current(NOW);
+        assertEquals(List.of(4L, 3L), ids(current));
+        current.forEach(b -> assertEquals("ACTIVE", b.getStatus()));
+    }
+
+    @Test
+    void upcomingStartsStrictlyAfterNow() {
+        List<BannerResponse> upcoming = timeline.upcoming(NOW);
+        assertEquals(List.of(5L, 6L), ids(upcoming));
+        upcoming.forEach(b -> assertEquals("UPCOMING", b.getStatus()));
+    }
+
+    @Test
+    void pastEndsStrictlyBeforeNow() {
+        List<BannerResponse> past = timeline.past(NOW);
+        assertEquals(List.of(2L, 1L), ids(past));
+        past.forEach(b -> assertEquals("ENDED", b.getStatus()));
+    }
+
+    @Test
+    void everyBannerFallsInExactlyOneBucket() {
+        for (LocalDateTime at : List.of(NOW.minusDays(40), NOW, NOW.plusDays(15), NOW.plusDays(40))) {
+            int total = timeline.current(at).size() + timeline.upcoming(at).size() + timeline.past(at).size();
+            assertEquals(6, total);
+            assertEquals(6, timeline.all(at).size());
+        }
+    }
+
+    @Test
+    void featuredIdsComeFromCurrentBanners() {
+        FeaturedFiveStarIdsResponse featured = timeline.featuredIds(NOW);
+        assertEquals(Set.of(104L), featured.getCharacterIds());
+        assertEquals(Set.of(203L), featured.getWeaponIds());
+    }
+
+    @Test
+    void cachedRowsAreNotMutated() {
+        timeline.current(NOW);
+        assertTrue(timeline.past(NOW.plusDays(40)).stream().allMatch(b -> "ENDED".equals(b.getStatus())));
+        assertTrue(timeline.upcoming(NOW.minusDays(40)).stream().allMatch(b -> "UPCOMING".equals(b.getStatus())));
+    }
+
+    private static List<Long> ids(List<BannerResponse> banners) {
+        return banners.stream().map(BannerResponse::getId).toList();
+    }
+
+    private static BannerResponse banner(Long id, LocalDateTime start, LocalDateTime end, Long characterId, Long weaponId) {
+        BannerResponse banner = new BannerResponse();
+        banner.setId(id);
+        banner.setName("Banner " + id);
+        banner.setStartDate(start);
+        banner.setEndDate(end);
+        banner.setFeatured5StarCharacterId(characterId);
+        banner.setFeatured5StarWeaponId(weaponId);
+        return banner;
+    }
+}
@@ -0,0 +1,209 @@
+package com.alice.gametracker.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.alice.gametracker.service.GachaRecordSource.ResponseReader;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+@ExtendWith(MockitoExtension.class)
+class GachaHistoryServiceTest {
+
+    private static final String EMPTY_POOL = "{\"code\":0,\"message\":\"success\",\"data\":[]}";
+
+    private final UpstreamExecutor realExecutor = new UpstreamExecutor(16);
+
+    @Mock
+    private GachaRecordSource gachaRecordSource;
+
+    @Mock
+    private UpstreamExecutor upstreamExecutor;
+
+    @Mock
+    private WeaponService weaponService;
+
+    @Mock
+    private CharacterService characterService;
+
+    @Mock
+    private GachaSyncService gachaSyncService;
+
+    @InjectMocks
+    private GachaHistoryService gachaHistoryService;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(gachaRecordSource.getHost()).thenReturn("upstream.test");
+        lenient().when(upstreamExecutor.runAsync(anyString(), any()))
+                .thenAnswer(inv -> realExecutor.runAsync(inv.getArgument(0), inv.getArgument(1)));
+        lenient().when(weaponService.findAllResponses()).thenReturn(List.of());
+        lenient().when(characterService.findAllCharacters()).thenReturn(List.of());
+        lenient().when(gachaSyncService.findState(anyString(), anyInt())).thenReturn(Optional.empty());
+        lenient().when(gachaSyncService.findRatedRecords(anyString())).thenReturn(List.of());
+    }
+
+    @AfterEach
+    void tearDown() {
+        realExecutor.shutdown();
+    }
+
+    @Test
+    void streamingPityCountsFromTheOlderSide() throws Exception {
+        // Newest first: 5, 3, 4, 3, 5, 3, 3
+        String pool1 = "{\"code\":0,\"message\":\"success\",\"data\":["
+                + item(5, "A", "2026-01-01 12:06:00") + ","
+                + item(3, "x", "2026-01-01 12:05:00") + ","
+                + item(4, "B", "2026-01-01 12:04:00") + ","
+                + item(3, "x", "2026-01-01 12:03:00") + ","
+                + item(5, "C", "2026-01-01 12:02:00") + ","
+                + item(3, "x", "2026-01-01 12:01:00") + ","
+                + item(3, "x", "2026-01-01 12:00:00") + "]}";
+        when(gachaRecordSource.fetchPool(anyMap(), anyInt(), any())).thenAnswer(inv -> {
+            String body = (int) inv.getArgument(1) == 1 ? pool1 : EMPTY_POOL;
+            return read(inv.getArgument(2), body);
+        });
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        gachaHistoryService.streamHistory(Map.of("player_id", "p1"), out);
+
+        JsonNode root = new ObjectMapper().readTree(out.toByteArray());
+        assertTrue(root.get("success").asBoolean());
+        JsonNode items = root.path("data").path("data").path("1");
+        assertEquals(3, items.size());
+        assertEquals("A", items.get(0).get("name").asText());
+        assertEquals(4, items.get(0).get("pityCount").asInt());
+        assertEquals("B", items.get(1).get("name").asText());
+        assertEquals(5, items.get(1).get("pityCount").asInt());
+        assertEquals("C", items.get(2).get("name").asText());
+        assertEquals(3, items.get(2).get("pityCount").asInt());
+        assertEquals(0, root.path("data").path("data").path("2").size());
+    }
+
+    @Test
+    void concurrentSyncsWithSameParamsShareOneImport() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(gachaRecordSource.fetchPool(anyMap(), anyInt(), any())).thenAnswer(inv -> {
+            if ((int) inv.getArgument(1) == 1) {
+                entered.countDown();
+                release.await();
+            }
+            return read(inv.getArgument(2), EMPTY_POOL);
+        });
+
+        Map<String, String> params = Map.of("player_id", "p1", "record_id", "r1");
+        AtomicReference<ObjectNode> first = new AtomicReference<>();
+        AtomicReference<ObjectNode> second = new AtomicReference<>();
+        Thread leader = new Thread(() -> first.set(gachaHistoryService.syncHistory(params)));
+        Thread follower = new Thread(() -> second.set(gachaHistoryService.syncHistory(params)));
+
+        leader.start();
+        assertTrue(entered.await(10, TimeUnit.SECONDS));
+        follower.start();
+        awaitWaiting(follower);
+        release.countDown();
+        leader.join(10_000);
+        follower.join(10_000);
+
+        assertNotNull(first.get());
+        assertSame(first.get(), second.get());
+        verify(gachaRecordSource, times(GachaRecordSource.CARD_POOL_TYPE_COUNT)).fetchPool(anyMap(), anyInt(), any());
+    }
+
+    @Test
+    void differentRecordIdDoesNotJoinRunningSync() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(gachaRecordSource.fetchPool(anyMap(), anyInt(), any())).thenAnswer(inv -> {
+            Map<String, String> params = inv.getArgument(0);
+            if ("r1".equals(params.get("record_id")) && (int) inv.getArgument(1) == 1) {
+                entered.countDown();
+                release.await();
+            }
+            return read(inv.getArgument(2), EMPTY_POOL);
+        });
+
+        Thread leader = new Thread(() -> gachaHistoryService.syncHistory(Map.of("player_id", "p1", "record_id", "r1")));
+        leader.start();
+        assertTrue(entered.await(10, TimeUnit.SECONDS));
+
+        // Runs its own import while the first one is still blocked
+        ObjectNode other = gachaHistoryService.syncHistory(Map.of("player_id", "p1", "record_id", "r2"));
+        assertNotNull(other);
+        assertTrue(leader.isAlive());
+
+        release.countDown();
+        leader.join(10_000);
+        verify(gachaRecordSource, times(2 * GachaRecordSource.CARD_POOL_TYPE_COUNT)).fetchPool(anyMap(), anyInt(), any());
+    }
+
+    @Test
+    void errorFromLeaderIsRethrownAndNextCallRunsFresh() throws Exception {
+        when(gachaRecordSource.fetchPool(anyMap(), anyInt(), any()))
+                .thenAnswer(inv -> read(inv.getArgument(2), EMPTY_POOL));
+        when(gachaSyncService.findRatedRecords("p1"))
+                .thenThrow(new OutOfMemoryError("test"))
+                .thenReturn(List.of());
+
+        Map<String, String> params = Map.of("player_id", "p1", "record_id", "r1");
+        assertThrows(OutOfMemoryError.class, () -> gachaHistoryService.syncHistory(params));
+
+        // The failed sync is no longer in flight
+        assertNotNull(gachaHistoryService.syncHistory(params));
+        verify(gachaRecordSource, times(2 * GachaRecordSource.CARD_POOL_TYPE_COUNT)).fetchPool(anyMap(), anyInt(), any());
+    }
+
+    @Test
+    void playerIdIsRequired() {
+        assertThrows(RuntimeException.class, () -> gachaHistoryService.syncHistory(Map.of("record_id", "r1")));
+    }
+
+    // Wait until `thread` parks, i.e. it is blocked on the in-flight sync
+    private static void awaitWaiting(Thread thread) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (thread.getState() != Thread.State.WAITING) {
+            assertTrue(System.nanoTime() < deadline, "follower never waited on the running sync");
+            Thread.sleep(5);
+        }
+    }
+
+    private static Object read(ResponseReader<?> reader, String body) throws Exception {
+        return reader.read(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static String item(int qualityLevel, String name, String time) {
+        return "{\"cardPoolType\":\"Featured\",\"resourceId\":1,\"qualityLevel\":" + qualityLevel
+                + ",\"resourceType\":\"Resonators\",\"name\":\"" + name + "\",\"count\":1,\"time\":\"" + time + "\"}";
+    }
+}
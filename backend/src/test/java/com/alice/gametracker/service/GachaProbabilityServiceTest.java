@@ -0,0 +1,66 @@
+package com.alice.gametracker.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import com.alice.gametracker.model.BannerType;
+
+class GachaProbabilityServiceTest {
+
+    private static final double EPS = 1e-12;
+
+    private final GachaProbabilityService service = new GachaProbabilityService();
+
+    @Test
+    void weaponBannerBeforeSoftPityIsGeometric() {
+        // 0.8% per pull until pity 60, every 5-star is featured
+        for (int n = 1; n <= 59; n++) {
+            assertEquals(1 - Math.pow(0.992, n), service.featuredWithin(BannerType.WEAPON, 0, false, n), EPS);
+        }
+        assertEquals(0.008, service.featuredWithin(BannerType.WEAPON, 0, false, 1), EPS);
+    }
+
+    @Test
+    void guaranteedCharacterBannerMatchesWeaponBanner() {
+        for (int n = 1; n <= 59; n++) {
+            assertEquals(1 - Math.pow(0.992, n), service.featuredWithin(BannerType.CHARACTER, 0, true, n), EPS);
+        }
+    }
+
+    @Test
+    void characterBannerFiftyFifty() {
+        assertEquals(0.004, service.featuredWithin(BannerType.CHARACTER, 0, false, 1), EPS);
+        // Won on either pull, or lost on the first and hit again on the second
+        double expected = 0.5 * (1 - 0.992 * 0.992) + 0.5 * 0.008 * 0.008;
+        assertEquals(expected, service.featuredWithin(BannerType.CHARACTER, 0, false, 2), EPS);
+    }
+
+    @Test
+    void hardPityIsCertain() {
+        assertEquals(1.0, service.featuredWithin(BannerType.WEAPON, 79, false, 1), EPS);
+        assertEquals(1.0, service.featuredWithin(BannerType.CHARACTER, 79, true, 1), EPS);
+        assertEquals(1.0, service.featuredWithin(BannerType.CHARACTER, 0, false, 160), EPS);
+        assertEquals(1.0, service.featuredWithin(BannerType.CHARACTER, 0, false, 159), EPS);
+    }
+
+    @Test
+    void cumulativeCurveMatchesPointQueries() {
+        double[] curve = service.featuredCumulative(BannerType.CHARACTER, 42, false);
+        for (int n = 1; n <= curve.length; n++) {
+            assertEquals(curve[n - 1], service.featuredWithin(BannerType.CHARACTER, 42, false, n), EPS);
+        }
+        for (int i = 1; i < curve.length; i++) {
+            assertTrue(curve[i] >= curve[i - 1]);
+        }
+    }
+
+    @Test
+    void rejectsInvalidInput() {
+        assertThrows(RuntimeException.class, () -> service.featuredWithin(BannerType.WEAPON, -1, false, 1));
+        assertThrows(RuntimeException.class, () -> service.featuredWithin(BannerType.WEAPON, 80, false, 1));
+        assertThrows(RuntimeException.class, () -> service.featuredWithin(BannerType.WEAPON, 0, false, 0));
+    }
+}
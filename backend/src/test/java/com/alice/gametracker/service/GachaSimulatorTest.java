@@ -0,0 +1,52 @@
+package com.alice.gametracker.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class GachaSimulatorTest {
+
+    private final GachaSimulator simulator = new GachaSimulator();
+
+    @AfterEach
+    void shutdown() {
+        simulator.shutdown();
+    }
+
+    @Test
+    void samePullSeedGivesSameCounters() {
+        // Several PULLS_PER_TASK chunks, so the run is forked across workers
+        GachaSimulator.Counters a = simulator.simulatePulls(1_000_000, true, 42);
+        GachaSimulator.Counters b = simulator.simulatePulls(1_000_000, true, 42);
+
+        assertEquals(1_000_000, a.pulls);
+        assertEquals(a.pulls, a.fiveStars + a.fourStars + a.threeStars);
+        assertTrue(a.fiftyFiftyWins + a.fiftyFiftyLosses <= a.fiveStars);
+        assertTrue(a.featured <= a.fiveStars);
+        assertEquals(a.fiveStars, Arrays.stream(a.fiveStarPity).sum());
+
+        assertEquals(a.pulls, b.pulls);
+        assertEquals(a.fiveStars, b.fiveStars);
+        assertEquals(a.fourStars, b.fourStars);
+        assertEquals(a.threeStars, b.threeStars);
+        assertEquals(a.featured, b.featured);
+        assertEquals(a.fiftyFiftyWins, b.fiftyFiftyWins);
+        assertEquals(a.fiftyFiftyLosses, b.fiftyFiftyLosses);
+        assertArrayEquals(a.fiveStarPity, b.fiveStarPity);
+    }
+
+    @Test
+    void sameTrialSeedGivesSameHistogram() {
+        long[] a = simulator.simulatePullsToFeatured(20_000, true, 10, false, 7);
+        long[] b = simulator.simulatePullsToFeatured(20_000, true, 10, false, 7);
+
+        assertEquals(GachaSimulator.MAX_PULLS_TO_FEATURED, a.length);
+        assertEquals(20_000, Arrays.stream(a).sum());
+        assertArrayEquals(a, b);
+    }
+}
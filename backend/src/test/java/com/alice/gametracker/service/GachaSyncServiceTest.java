@@ -0,0 +1,154 @@
+package com.alice.gametracker.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.alice.gametracker.model.GachaPullRecord;
+import com.alice.gametracker.model.GachaSyncState;
+import com.alice.gametracker.repository.GachaPullRecordRepository;
+import com.alice.gametracker.repository.GachaSyncStateRepository;
+
+@ExtendWith(MockitoExtension.class)
+class GachaSyncServiceTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    @Mock
+    private GachaPullRecordRepository gachaPullRecordRepository;
+
+    @Mock
+    private GachaSyncStateRepository gachaSyncStateRepository;
+
+    @InjectMocks
+    private GachaSyncService gachaSyncService;
+
+    @Test
+    void appendContinuesPityFromStoredState() {
+        GachaSyncState state = new GachaSyncState("p1", 1);
+        state.setFiveStarPity(30);
+        state.setFourStarPity(5);
+        state.setLastSeq(100);
+        state.setLastRecordTime(T0);
+        state.setLastRecordTimeCount(1);
+        when(gachaSyncStateRepository.findForUpdate("p1", 1)).thenReturn(Optional.of(state));
+
+        // Upstream order: newest first
+        GachaPullRecord five = record(5, T0.plusMinutes(4));
+        GachaPullRecord four = record(4, T0.plusMinutes(3));
+        GachaPullRecord threeB = record(3, T0.plusMinutes(2));
+        GachaPullRecord threeA = record(3, T0.plusMinutes(1));
+
+        int added = gachaSyncService.appendRecords("p1", 1, List.of(five, four, threeB, threeA));
+
+        assertEquals(4, added);
+        assertEquals(8, four.getPityCount());
+        assertEquals(34, five.getPityCount());
+        assertEquals(101, threeA.getSeq());
+        assertEquals(104, five.getSeq());
+
+        assertEquals(0, state.getFiveStarPity());
+        assertEquals(1, state.getFourStarPity());
+        assertEquals(104, state.getLastSeq());
+        assertEquals(T0.plusMinutes(4), state.getLastRecordTime());
+        assertEquals(1, state.getLastRecordTimeCount());
+        verify(gachaPullRecordRepository).saveAll(List.of(threeA, threeB, four, five));
+        verify(gachaSyncStateRepository).save(state);
+    }
+
+    @Test
+    void firstImportStartsFromZeroPity() {
+        when(gachaSyncStateRepository.findForUpdate("p1", 2)).thenReturn(Optional.empty());
+
+        GachaPullRecord five = record(5, T0.plusMinutes(2));
+        GachaPullRecord three = record(3, T0.plusMinutes(1));
+
+        gachaSyncService.appendRecords("p1", 2, List.of(five, three));
+
+        assertEquals(2, five.getPityCount());
+        assertEquals("p1", five.getPlayerId());
+        assertEquals(2, five.getCardPoolType());
+    }
+
+    @Test
+    void sameTimestampCountCarriesOver() {
+        GachaSyncState state = new GachaSyncState("p1", 1);
+        state.setLastRecordTime(T0);
+        state.setLastRecordTimeCount(3);
+        when(gachaSyncStateRepository.findForUpdate("p1", 1)).thenReturn(Optional.of(state));
+
+        // A ten-pull whose three oldest records were imported before; upstream returns all five
+        int added = gachaSyncService.appendRecords("p1", 1,
+                List.of(record(3, T0), record(3, T0), record(3, T0), record(3, T0), record(3, T0)));
+
+        assertEquals(2, added);
+        assertEquals(T0, state.getLastRecordTime());
+        assertEquals(5, state.getLastRecordTimeCount());
+    }
+
+    @Test
+    void overlappingImportsOfTheSamePlayerAppendEachRecordOnce() {
+        // Both imports read this state before either appended
+        GachaSyncState state = new GachaSyncState("p1", 1);
+        state.setFiveStarPity(10);
+        state.setLastSeq(50);
+        state.setLastRecordTime(T0);
+        state.setLastRecordTimeCount(1);
+        when(gachaSyncStateRepository.findForUpdate("p1", 1)).thenReturn(Optional.of(state));
+
+        GachaPullRecord stored = record(3, T0);
+        List<GachaPullRecord> first = List.of(record(3, T0.plusMinutes(2)), record(4, T0.plusMinutes(1)), stored);
+        // The second import fetched a moment later and also sees one newer pull
+        GachaPullRecord newer = record(5, T0.plusMinutes(3));
+        List<GachaPullRecord> second = List.of(newer, record(3, T0.plusMinutes(2)), record(4, T0.plusMinutes(1)), record(3, T0));
+
+        assertEquals(2, gachaSyncService.appendRecords("p1", 1, first));
+        assertEquals(52, state.getLastSeq());
+        assertEquals(12, state.getFiveStarPity());
+
+        // Runs after the first one committed and re-reads the state under the lock
+        assertEquals(1, gachaSyncService.appendRecords("p1", 1, second));
+        assertEquals(53, newer.getSeq());
+        assertEquals(13, newer.getPityCount());
+        assertEquals(53, state.getLastSeq());
+        assertEquals(0, state.getFiveStarPity());
+        assertEquals(T0.plusMinutes(3), state.getLastRecordTime());
+        verify(gachaPullRecordRepository).saveAll(List.of(newer));
+
+        // Replaying the first import once more appends nothing
+        assertEquals(0, gachaSyncService.appendRecords("p1", 1, first));
+        assertEquals(53, state.getLastSeq());
+    }
+
+    @Test
+    void unseenCutsAtTheStoredTime() {
+        GachaSyncState state = new GachaSyncState("p1", 1);
+        assertEquals(2, GachaSyncService.unseen(List.of(record(3, T0), record(3, T0)), state).size());
+
+        state.setLastRecordTime(T0);
+        state.setLastRecordTimeCount(2);
+        List<GachaPullRecord> candidates = List.of(record(3, T0.plusMinutes(1)), record(3, T0), record(3, T0), record(3, T0));
+        assertEquals(2, GachaSyncService.unseen(candidates, state).size());
+
+        state.setLastRecordTime(T0.plusMinutes(5));
+        state.setLastRecordTimeCount(1);
+        assertEquals(0, GachaSyncService.unseen(candidates, state).size());
+    }
+
+    private static GachaPullRecord record(int qualityLevel, LocalDateTime time) {
+        GachaPullRecord record = new GachaPullRecord();
+        record.setQualityLevel(qualityLevel);
+        record.setRecordTime(time);
+        return record;
+    }
+}
@@ -0,0 +1,120 @@
+package com.alice.gametracker.utils;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class EncodedResponseCacheTest {
+
+    private final EncodedResponseCache cache = new EncodedResponseCache();
+    private final AtomicInteger encodes = new AtomicInteger();
+    private final Supplier<List<String>> body = () -> {
+        encodes.incrementAndGet();
+        return List.of("a", "b");
+    };
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(cache, "objectMapper", new ObjectMapper());
+        ReflectionTestUtils.setField(cache, "gzipEnabled", true);
+    }
+
+    @Test
+    void plainBodyAndMatchingETagGives304() {
+        ResponseEntity<byte[]> first = cache.respond("cards", 1, body, request(null, null));
+        assertEquals(HttpStatus.OK, first.getStatusCode());
+        assertEquals("[\"a\",\"b\"]", new String(first.getBody()));
+        String etag = first.getHeaders().getETag();
+
+        ResponseEntity<byte[]> second = cache.respond("cards", 1, body, request(null, etag));
+        assertEquals(HttpStatus.NOT_MODIFIED, second.getStatusCode());
+        assertEquals(etag, second.getHeaders().getETag());
+        assertNull(second.getBody());
+        assertEquals(1, encodes.get());
+    }
+
+    @Test
+    void gzipBodyHasItsOwnETag() throws IOException {
+        ResponseEntity<byte[]> plain = cache.respond("cards", 1, body, request(null, null));
+        ResponseEntity<byte[]> gzip = cache.respond("cards", 1, body, request("gzip, deflate", null));
+
+        assertEquals("gzip", gzip.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertArrayEquals(plain.getBody(), gunzip(gzip.getBody()));
+        assertNotEquals(plain.getHeaders().getETag(), gzip.getHeaders().getETag());
+
+        // A gzip client revalidating with the plain tag gets the full body
+        ResponseEntity<byte[]> crossed = cache.respond("cards", 1, body, request("gzip", plain.getHeaders().getETag()));
+        assertEquals(HttpStatus.OK, crossed.getStatusCode());
+
+        ResponseEntity<byte[]> revalidated = cache.respond("cards", 1, body, request("gzip", gzip.getHeaders().getETag()));
+        assertEquals(HttpStatus.NOT_MODIFIED, revalidated.getStatusCode());
+    }
+
+    @Test
+    void newVersionReencodesButKeepsETagForSameBytes() {
+        String etag = cache.respond("cards", 1, body, request(null, null)).getHeaders().getETag();
+
+        // Same JSON under a new version: the hash-based tag still matches
+        ResponseEntity<byte[]> response = cache.respond("cards", 2, body, request(null, etag));
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertEquals(2, encodes.get());
+
+        ResponseEntity<byte[]> changed = cache.respond("cards", 3, () -> List.of("c"), request(null, etag));
+        assertEquals(HttpStatus.OK, changed.getStatusCode());
+    }
+
+    @Test
+    void gzipRefusedWithZeroQuality() {
+        ResponseEntity<byte[]> response = cache.respond("cards", 1, body, request("gzip;q=0, identity", null));
+        assertNull(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals("[\"a\",\"b\"]", new String(response.getBody()));
+    }
+
+    @Test
+    void acceptEncodingParsing() {
+        assertTrue(EncodedResponseCache.acceptsGzip("gzip"));
+        assertTrue(EncodedResponseCache.acceptsGzip("deflate, gzip;q=0.5"));
+        assertTrue(EncodedResponseCache.acceptsGzip("GZIP ; q=1.0"));
+        assertTrue(EncodedResponseCache.acceptsGzip("*"));
+        assertFalse(EncodedResponseCache.acceptsGzip(null));
+        assertFalse(EncodedResponseCache.acceptsGzip("gzip;q=0"));
+        assertFalse(EncodedResponseCache.acceptsGzip("gzip; q=0.000"));
+        assertFalse(EncodedResponseCache.acceptsGzip("*, gzip;q=0"));
+        assertFalse(EncodedResponseCache.acceptsGzip("*;q=0"));
+        assertFalse(EncodedResponseCache.acceptsGzip("br, deflate"));
+        assertFalse(EncodedResponseCache.acceptsGzip("xgzip"));
+    }
+
+    private static MockHttpServletRequest request(String acceptEncoding, String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/characters/cards");
+        if (acceptEncoding != null) request.addHeader(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        if (ifNoneMatch != null) request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        return request;
+    }
+
+    private static byte[] gunzip(byte[] gzip) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip))) {
+            return in.readAllBytes();
+        }
+    }
+}
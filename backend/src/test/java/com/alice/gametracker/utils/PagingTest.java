@@ -0,0 +1,101 @@
+package com.alice.gametracker.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import com.alice.gametracker.dto.CursorPage;
+
+class PagingTest {
+
+    private static final Function<Long, Long> ID = Function.identity();
+
+    @Test
+    void limitDefaultsAndCaps() {
+        assertEquals(Paging.DEFAULT_LIMIT, Paging.limit(null));
+        assertEquals(Paging.DEFAULT_LIMIT, Paging.limit(0));
+        assertEquals(5, Paging.limit(5));
+        assertEquals(Paging.MAX_LIMIT, Paging.limit(10_000));
+        assertFalse(Paging.requested(null, null));
+        assertTrue(Paging.requested(3L, null));
+        assertTrue(Paging.requested(null, 3));
+    }
+
+    @Test
+    void sliceAscendingWalksEveryIdOnce() {
+        List<Long> items = List.of(2L, 3L, 5L, 8L, 13L);
+        List<Long> seen = new ArrayList<>();
+        Long cursor = null;
+        do {
+            CursorPage<Long> page = Paging.sliceAscending(items, ID, cursor, 2);
+            seen.addAll(page.getItems());
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        assertEquals(items, seen);
+    }
+
+    @Test
+    void sliceAscendingCursorNeedNotExist() {
+        // Cursor row deleted since the previous page: continue after its id
+        CursorPage<Long> page = Paging.sliceAscending(List.of(2L, 3L, 5L, 8L), ID, 4L, 10);
+        assertEquals(List.of(5L, 8L), page.getItems());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void sliceAfterIdKeepsListingOrder() {
+        // Timeline order, not id order
+        List<Long> ordered = List.of(7L, 2L, 9L, 4L, 1L);
+        CursorPage<Long> first = Paging.sliceAfterId(ordered, ID, null, 2);
+        assertEquals(List.of(7L, 2L), first.getItems());
+        assertEquals(2L, first.getNextCursor());
+
+        CursorPage<Long> second = Paging.sliceAfterId(ordered, ID, first.getNextCursor(), 2);
+        assertEquals(List.of(9L, 4L), second.getItems());
+        assertEquals(4L, second.getNextCursor());
+
+        CursorPage<Long> last = Paging.sliceAfterId(ordered, ID, second.getNextCursor(), 2);
+        assertEquals(List.of(1L), last.getItems());
+        assertNull(last.getNextCursor());
+    }
+
+    @Test
+    void sliceAfterIdWithUnknownCursorIsEmptyLastPage() {
+        CursorPage<Long> page = Paging.sliceAfterId(List.of(7L, 2L, 9L), ID, 42L, 2);
+        assertTrue(page.getItems().isEmpty());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void exactlyFullLastPageHasNoCursor() {
+        CursorPage<Long> page = Paging.sliceAfterId(List.of(7L, 2L), ID, null, 2);
+        assertEquals(List.of(7L, 2L), page.getItems());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void pickByIdsKeepsRequestOrder() {
+        List<Long> items = List.of(1L, 3L, 5L, 7L);
+        assertEquals(List.of(7L, 1L), Paging.pickByIds(items, ID, Arrays.asList(7L, 2L, null, 1L, 7L)));
+        assertTrue(Paging.pickByIds(items, ID, null).isEmpty());
+    }
+
+    @Test
+    void fromFetchedUsesExtraRowOnlyAsSignal() {
+        CursorPage<Long> more = Paging.fromFetched(List.of(1L, 2L, 3L), ID, 2);
+        assertEquals(List.of(1L, 2L), more.getItems());
+        assertEquals(2L, more.getNextCursor());
+
+        CursorPage<Long> end = Paging.fromFetched(List.of(1L, 2L), ID, 2);
+        assertEquals(List.of(1L, 2L), end.getItems());
+        assertNull(end.getNextCursor());
+    }
+}